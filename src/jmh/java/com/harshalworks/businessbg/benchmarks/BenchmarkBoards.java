@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.benchmarks;
+
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.*;
+
+/**
+ * Boards shared by the benchmarks, every kind of standard cell repeats along the path.
+ */
+final class BenchmarkBoards {
+
+    static final int RICH_PLAYER_AMOUNT = 1_000_000_000;
+    static final int BANK_AMOUNT = 1_000_000_000;
+
+    private static final RentableMemberbership[] MEMBERSHIPS = {
+            new RentableMemberbership("Silver", 100, 10),
+            new RentableMemberbership("Gold", 250, 30),
+            new RentableMemberbership("Platinum", 500, 70)
+    };
+
+    private BenchmarkBoards() {
+    }
+
+    static Cell[] mixedCells(int length) {
+        Cell[] cells = new Cell[length];
+        for (int position = 0; position < length; position++) {
+            switch (position % 4) {
+                case 0:
+                    cells[position] = new BlankCell();
+                    break;
+                case 1:
+                    cells[position] = new PayToBankCell(20);
+                    break;
+                case 2:
+                    cells[position] = new BankRewardCell(20);
+                    break;
+                default:
+                    cells[position] = new RentableCell(MEMBERSHIPS);
+            }
+        }
+        return cells;
+    }
+
+    static Board mixedBoard(int length) {
+        return new Board(mixedCells(length));
+    }
+
+    static boolean isRentable(int position) {
+        return position % 4 == 3;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.benchmarks;
+
+import com.harshalworks.businessbg.bank.Bank;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.Cell;
+import com.harshalworks.businessbg.board.cell.RentableCell;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
+import com.harshalworks.businessbg.rules.Rule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board lookups, purchases and rent payment in isolation from the game.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+    @Param({"40", "1000", "100000"})
+    public int boardLength;
+
+    private Board board;
+    private Bank bank;
+    private BoardGamePlayer buyer;
+    private int position;
+
+    private Board purchaseBoard;
+    private int purchasePosition;
+
+    private RentableCell rentedCell;
+    private BoardGamePlayer tenant;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        board = BenchmarkBoards.mixedBoard(boardLength);
+        bank = new Bank(BenchmarkBoards.BANK_AMOUNT);
+        buyer = new BoardGamePlayer(BenchmarkBoards.RICH_PLAYER_AMOUNT, "Buyer");
+        position = 0;
+
+        purchaseBoard = BenchmarkBoards.mixedBoard(boardLength);
+        purchasePosition = 3;
+
+        Cell[] cells = BenchmarkBoards.mixedCells(4);
+        rentedCell = (RentableCell) cells[3];
+        new Board(cells).purchaseCellAsset(3, new BoardGamePlayer(BenchmarkBoards.RICH_PLAYER_AMOUNT, "Owner"), bank);
+        tenant = new BoardGamePlayer(BenchmarkBoards.RICH_PLAYER_AMOUNT, "Tenant");
+    }
+
+    @Benchmark
+    public Rule getRule() {
+        position++;
+        if (position == boardLength)
+            position = 0;
+        return board.getRule(position);
+    }
+
+    /**
+     * Buys the next rentable cell, a fresh board is built every time all of them are sold.
+     */
+    @Benchmark
+    public void purchaseCellAsset() {
+        purchaseBoard.purchaseCellAsset(purchasePosition, buyer, bank);
+        purchasePosition += 4;
+        if (purchasePosition >= boardLength) {
+            purchaseBoard = BenchmarkBoards.mixedBoard(boardLength);
+            purchasePosition = 3;
+            buyer = new BoardGamePlayer(BenchmarkBoards.RICH_PLAYER_AMOUNT, "Buyer");
+        }
+    }
+
+    @Benchmark
+    public int payRent() {
+        rentedCell.execute(tenant, bank);
+        return tenant.getMoneyValue();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.benchmarks;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.bank.Bank;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.CompiledBoard;
+import com.harshalworks.businessbg.dice.StandardSixSidedDice;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
+import com.harshalworks.businessbg.player.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves of the same game, dice and seed on a board of cell objects and on a board built from a {@link CompiledBoard}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompiledBoardGameBenchmark {
+
+    @Param({"40", "1000", "100000"})
+    public int boardLength;
+
+    @Param({"objects", "compiled"})
+    public String boardType;
+
+    private FixedRoundsGame game;
+    private Player[] seats;
+    private int seatWithTurn;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        Board board = "compiled".equals(boardType)
+                ? new Board(CompiledBoard.compile(BenchmarkBoards.mixedBoard(boardLength)))
+                : BenchmarkBoards.mixedBoard(boardLength);
+        game = new FixedRoundsGame(BenchmarkBoards.RICH_PLAYER_AMOUNT, BenchmarkBoards.BANK_AMOUNT,
+                new StandardSixSidedDice(7), board, Integer.MAX_VALUE / boardLength);
+        seats = new Player[]{game.registerPlayer("Player-0"), game.registerPlayer("Player-1")};
+        Bank seller = new Bank(0);
+        for (int position = 0; position < boardLength; position++) {
+            if (BenchmarkBoards.isRentable(position))
+                board.purchaseCellAsset(position, (BoardGamePlayer) seats[position % 2], seller);
+        }
+        game.start();
+        seatWithTurn = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void retire() {
+        game.retire();
+    }
+
+    @Benchmark
+    public void makeMove() {
+        game.makeMove(seats[seatWithTurn]);
+        seatWithTurn ^= 1;
+    }
+}
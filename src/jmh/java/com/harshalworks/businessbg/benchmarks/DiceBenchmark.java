@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.benchmarks;
+
+import com.harshalworks.businessbg.dice.AliasDice;
+import com.harshalworks.businessbg.dice.BufferedDice;
+import com.harshalworks.businessbg.dice.Dice;
+import com.harshalworks.businessbg.dice.SplittableDice;
+import com.harshalworks.businessbg.dice.StandardSixSidedDice;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one six sided roll through the {@link Dice} interface for every dice implementation,
+ * one at a time and when rolling ahead with {@link Dice#fill(int[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceBenchmark {
+
+    private static final int ROLLS_PER_FILL = 1024;
+
+    private Dice standardDice;
+    private Dice splittableDice;
+    private Dice bufferedDice;
+    private Dice bufferedTwoDice;
+    private Dice aliasTwoDice;
+    private final int[] rolls = new int[ROLLS_PER_FILL];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        standardDice = new StandardSixSidedDice(7);
+        splittableDice = new SplittableDice(7);
+        bufferedDice = new BufferedDice(7);
+        bufferedTwoDice = new BufferedDice(7, 2, 6);
+        aliasTwoDice = AliasDice.sumOf(2, 6, 7);
+    }
+
+    @Benchmark
+    public int standardSixSidedDice() {
+        return standardDice.rollTheDice();
+    }
+
+    @Benchmark
+    public int splittableDice() {
+        return splittableDice.rollTheDice();
+    }
+
+    @Benchmark
+    public int bufferedDice() {
+        return bufferedDice.rollTheDice();
+    }
+
+    @Benchmark
+    public int bufferedTwoDice() {
+        return bufferedTwoDice.rollTheDice();
+    }
+
+    /**
+     * 2d6 rolled as two separate dice.
+     */
+    @Benchmark
+    public int splittableTwoDice() {
+        return splittableDice.rollTheDice() + splittableDice.rollTheDice();
+    }
+
+    @Benchmark
+    public int aliasTwoDice() {
+        return aliasTwoDice.rollTheDice();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS_PER_FILL)
+    public int[] splittableDiceFill() {
+        splittableDice.fill(rolls);
+        return rolls;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS_PER_FILL)
+    public int[] bufferedDiceFill() {
+        bufferedDice.fill(rolls);
+        return rolls;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.benchmarks;
+
+import com.harshalworks.businessbg.events.GameEvent;
+import com.harshalworks.businessbg.events.StandardGameEventPublisher;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of publishing one event to a number of viewers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventPublisherBenchmark {
+
+    @Param({"0", "1", "100"})
+    public int viewers;
+
+    private StandardGameEventPublisher publisher;
+    private GameEvent event;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        publisher = new StandardGameEventPublisher();
+        for (int i = 0; i < viewers; i++) {
+            publisher.addSubscriber(blackhole::consume);
+        }
+        event = new GameEvent("DICE_ROLLED", "6");
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        publisher.close();
+    }
+
+    @Benchmark
+    public void publishEvent() {
+        publisher.publishEvent(event);
+    }
+}
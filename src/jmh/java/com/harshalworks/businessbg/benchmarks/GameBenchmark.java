@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.benchmarks;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.bank.Bank;
+import com.harshalworks.businessbg.board.Asset;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.dice.StandardSixSidedDice;
+import com.harshalworks.businessbg.events.Viewer;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
+import com.harshalworks.businessbg.player.Player;
+import com.harshalworks.businessbg.rules.Rule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a single move on a running game and of complete fixed rounds games.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    @Param({"40", "1000"})
+    public int boardLength;
+
+    @Param({"2", "8"})
+    public int players;
+
+    @Param({"0", "1", "100"})
+    public int viewers;
+
+    private FixedRoundsGame runningGame;
+    private Player[] seats;
+    private int seatWithTurn;
+
+    @Setup(Level.Trial)
+    public void setupRunningGame(Blackhole blackhole) {
+        Board board = BenchmarkBoards.mixedBoard(boardLength);
+        runningGame = new FixedRoundsGame(BenchmarkBoards.RICH_PLAYER_AMOUNT, BenchmarkBoards.BANK_AMOUNT,
+                new StandardSixSidedDice(7), board, Integer.MAX_VALUE / boardLength);
+        seats = registerPlayers(runningGame, blackhole);
+        Bank seller = new Bank(0);
+        for (int position = 0; position < boardLength; position++) {
+            if (BenchmarkBoards.isRentable(position))
+                board.purchaseCellAsset(position, (BoardGamePlayer) seats[position % players], seller);
+        }
+        runningGame.start();
+        seatWithTurn = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void retireRunningGame() {
+        runningGame.retire();
+    }
+
+    private Player[] registerPlayers(FixedRoundsGame game, Blackhole blackhole) {
+        for (int i = 0; i < viewers; i++) {
+            game.subscribe(viewerOf(blackhole));
+        }
+        Player[] registered = new Player[players];
+        for (int seat = 0; seat < players; seat++) {
+            registered[seat] = game.registerPlayer("Player-" + seat);
+        }
+        return registered;
+    }
+
+    private static Viewer viewerOf(Blackhole blackhole) {
+        return blackhole::consume;
+    }
+
+    @Benchmark
+    public void makeMove() {
+        runningGame.makeMove(seats[seatWithTurn]);
+        seatWithTurn = (seatWithTurn + 1) % players;
+    }
+
+    @Benchmark
+    public int playFiveRoundGame(Blackhole blackhole) {
+        Board board = BenchmarkBoards.mixedBoard(boardLength);
+        FixedRoundsGame game = new FixedRoundsGame(BenchmarkBoards.RICH_PLAYER_AMOUNT,
+                BenchmarkBoards.BANK_AMOUNT, new StandardSixSidedDice(11), board, 5);
+        try {
+            Player[] gameSeats = registerPlayers(game, blackhole);
+            game.start();
+            int seat = 0;
+            while (!game.isFinished()) {
+                Player player = gameSeats[seat];
+                game.makeMove(player);
+                if (!game.isFinished() && isPurchasable(board, (BoardGamePlayer) player))
+                    game.purchaseCurrentCellAsset(player);
+                seat = (seat + 1) % players;
+            }
+            return game.getBankMoneyValue();
+        } finally {
+            game.retire();
+        }
+    }
+
+    private static boolean isPurchasable(Board board, BoardGamePlayer player) {
+        Rule rule = board.getRule(player.getCurrentPosition());
+        return rule instanceof Asset && ((Asset) rule).isPurchasable(player);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.benchmarks;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.dice.StandardSixSidedDice;
+import com.harshalworks.businessbg.metrics.GameMetrics;
+import com.harshalworks.businessbg.metrics.LatencyHistogram;
+import com.harshalworks.businessbg.player.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the metrics on a move, when they are not set, disabled or recording.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    private static final int BOARD_LENGTH = 40;
+
+    @Param({"none", "disabled", "enabled"})
+    public String metrics;
+
+    private FixedRoundsGame runningGame;
+    private Player[] seats;
+    private int seatWithTurn;
+    private LatencyHistogram histogram;
+    private long latency;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        runningGame = new FixedRoundsGame(BenchmarkBoards.RICH_PLAYER_AMOUNT, BenchmarkBoards.BANK_AMOUNT,
+                new StandardSixSidedDice(7), BenchmarkBoards.mixedBoard(BOARD_LENGTH), Integer.MAX_VALUE / BOARD_LENGTH);
+        if (!"none".equals(metrics)) {
+            GameMetrics gameMetrics = new GameMetrics();
+            gameMetrics.setEnabled("enabled".equals(metrics));
+            runningGame.setMetrics(gameMetrics);
+        }
+        seats = new Player[]{runningGame.registerPlayer("Player-0"), runningGame.registerPlayer("Player-1")};
+        runningGame.start();
+        histogram = new LatencyHistogram();
+    }
+
+    @TearDown(Level.Trial)
+    public void retire() {
+        runningGame.retire();
+    }
+
+    @Benchmark
+    public void makeMove() {
+        runningGame.makeMove(seats[seatWithTurn]);
+        seatWithTurn ^= 1;
+    }
+
+    @Benchmark
+    public void recordLatency() {
+        latency = (latency + 7919) & 0xFFFFF;
+        histogram.record(latency);
+    }
+}
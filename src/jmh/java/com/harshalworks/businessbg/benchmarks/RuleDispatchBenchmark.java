@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.benchmarks;
+
+import com.harshalworks.businessbg.bank.Bank;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applying the rules of a mixed board through the {@link com.harshalworks.businessbg.rules.Rule} interface
+ * against the compiled opcode switch of {@link Board#applyRule}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleDispatchBenchmark {
+
+    @Param({"40", "1000", "100000"})
+    public int boardLength;
+
+    private Board board;
+    private Bank bank;
+    private BoardGamePlayer player;
+    private int position;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        board = BenchmarkBoards.mixedBoard(boardLength);
+        bank = new Bank(BenchmarkBoards.BANK_AMOUNT);
+        BoardGamePlayer owner = new BoardGamePlayer(BenchmarkBoards.RICH_PLAYER_AMOUNT, "Owner");
+        for (int position = 0; position < boardLength; position++) {
+            if (BenchmarkBoards.isRentable(position))
+                board.purchaseCellAsset(position, owner, bank);
+        }
+        player = new BoardGamePlayer(BenchmarkBoards.RICH_PLAYER_AMOUNT, "Tenant");
+        position = 0;
+    }
+
+    private int nextPosition() {
+        // a step of 7 walks over every kind of cell in an irregular order.
+        position += 7;
+        if (position >= boardLength)
+            position -= boardLength;
+        return position;
+    }
+
+    @Benchmark
+    public int interfaceDispatch() {
+        board.getRule(nextPosition()).execute(player, bank);
+        return player.getMoneyValue();
+    }
+
+    @Benchmark
+    public int compiledDispatch() {
+        board.applyRule(nextPosition(), player, bank);
+        return player.getMoneyValue();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.benchmarks;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.dice.StandardSixSidedDice;
+import com.harshalworks.businessbg.exceptions.CannotPurchaseThisAsset;
+import com.harshalworks.businessbg.player.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkpointing a running 40 cell game after every turn.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({"2", "8"})
+    public int players;
+
+    private FixedRoundsGame game;
+    private FixedRoundsGame standby;
+    private byte[] snapshot;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        game = createGame();
+        for (int seat = 0; seat < players; seat++) {
+            game.registerPlayer("Player-" + seat);
+        }
+        game.start();
+        for (int move = 0; move < players * 5; move++) {
+            Player player = game.getPlayer(game.getPlayerWithCurrentTurn());
+            game.makeMove(player);
+            if (BenchmarkBoards.isRentable(player.getCurrentPosition())) {
+                try {
+                    game.purchaseCurrentCellAsset(player);
+                } catch (CannotPurchaseThisAsset e) {
+                    // owned by another player.
+                }
+            }
+        }
+        snapshot = game.snapshot();
+        standby = createGame();
+    }
+
+    @TearDown(Level.Trial)
+    public void retire() {
+        game.retire();
+        standby.retire();
+    }
+
+    private static FixedRoundsGame createGame() {
+        Board board = BenchmarkBoards.mixedBoard(40);
+        return new FixedRoundsGame(BenchmarkBoards.RICH_PLAYER_AMOUNT, BenchmarkBoards.BANK_AMOUNT,
+                new StandardSixSidedDice(3), board, 1000);
+    }
+
+    @Benchmark
+    public byte[] snapshot() {
+        return game.snapshot();
+    }
+
+    @Benchmark
+    public FixedRoundsGame restore() {
+        standby.restore(snapshot);
+        return standby;
+    }
+}
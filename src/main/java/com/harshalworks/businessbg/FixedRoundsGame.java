@@ -26,25 +26,35 @@ package com.harshalworks.businessbg;
 import com.harshalworks.businessbg.bank.Bank;
 import com.harshalworks.businessbg.board.Board;
 import com.harshalworks.businessbg.dice.Dice;
+import com.harshalworks.businessbg.events.GameEventPublisher;
 import com.harshalworks.businessbg.events.StandardGameEventPublisher;
 import com.harshalworks.businessbg.player.BoardGamePlayer;
 import com.harshalworks.businessbg.player.BoardGamePlayerFactory;
-
-import java.util.*;
+import com.harshalworks.businessbg.snapshot.SnapshotReader;
+import com.harshalworks.businessbg.snapshot.SnapshotWriter;
 
 public class FixedRoundsGame extends PublishableGame{
 
     protected final int roundsToPlay;
     private final int lengthToTravel;
-    private Map<String, Integer> playerLeftToTravelRounds;
+    // indexed by player id, 0 or less once the player has travelled all rounds.
+    private int[] distanceLeftToTravel;
+    private int playersTravelling;
+    // read from a snapshot being restored, replaces distanceLeftToTravel once all of it was accepted.
+    private int[] restoredDistanceLeft;
 
     public FixedRoundsGame(int fixedAmountForPlayer, int initialAmountOfBank,
                            Dice dice, Board board, int roundsToPlay) {
+        this(fixedAmountForPlayer, initialAmountOfBank, dice, board, roundsToPlay, new StandardGameEventPublisher());
+    }
+
+    public FixedRoundsGame(int fixedAmountForPlayer, int initialAmountOfBank,
+                           Dice dice, Board board, int roundsToPlay, GameEventPublisher gameEventPublisher) {
         super(fixedAmountForPlayer, new BoardGamePlayerFactory(),
-                new Bank(initialAmountOfBank), dice, board, new StandardGameEventPublisher());
+                new Bank(initialAmountOfBank), dice, board, gameEventPublisher);
         this.roundsToPlay = roundsToPlay;
         this.lengthToTravel = board.getBoardLength() * roundsToPlay;
-        playerLeftToTravelRounds = new HashMap<>();
+        this.distanceLeftToTravel = new int[0];
     }
 
     @Override
@@ -54,8 +64,11 @@ public class FixedRoundsGame extends PublishableGame{
     }
 
     private void initializeAllPlayersWithDistanceToTravel() {
-        for (String uniquePlayer : uniquePlayers.keySet()) {
-            playerLeftToTravelRounds.put(uniquePlayer, lengthToTravel);
+        distanceLeftToTravel = new int[playersTurnOrder.getSlotsUsed()];
+        playersTravelling = 0;
+        for (BoardGamePlayer player : uniquePlayers.values()) {
+            distanceLeftToTravel[player.getPlayerId()] = lengthToTravel;
+            playersTravelling++;
         }
     }
 
@@ -66,16 +79,49 @@ public class FixedRoundsGame extends PublishableGame{
     }
 
     private void updatePlayerTravelDistance(BoardGamePlayer boardGamePlayer, int amount) {
-        int distance = playerLeftToTravelRounds.get(boardGamePlayer.getUniqueName()) - amount;
-        if(distance <= 0)
-            playerLeftToTravelRounds.remove(boardGamePlayer.getUniqueName());
-        else
-            playerLeftToTravelRounds.put(boardGamePlayer.getUniqueName(), distance);
-
+        int playerId = boardGamePlayer.getPlayerId();
+        if(distanceLeftToTravel[playerId] <= 0)
+            return; // player has already travelled all rounds, waiting for others to finish.
+        distanceLeftToTravel[playerId] -= amount;
+        if(distanceLeftToTravel[playerId] <= 0)
+            playersTravelling--;
     }
 
     @Override
     protected boolean isFinishState() {
-        return playerLeftToTravelRounds.size() == 0;
+        return playersTravelling == 0;
+    }
+
+    @Override
+    public long estimateRetainedBytes() {
+        return super.estimateRetainedBytes() + 16 + 4L * distanceLeftToTravel.length;
+    }
+
+    @Override
+    protected void writePlayerSnapshot(BoardGamePlayer player, SnapshotWriter out) {
+        int playerId = player.getPlayerId();
+        int distanceLeft = playerId < distanceLeftToTravel.length ? distanceLeftToTravel[playerId] : 0;
+        out.writeVarint(Math.max(distanceLeft, 0));
+    }
+
+    @Override
+    protected void beginReadingPlayerSnapshots(int players) {
+        restoredDistanceLeft = new int[players];
+    }
+
+    @Override
+    protected void readPlayerSnapshot(BoardGamePlayer player, SnapshotReader in) {
+        restoredDistanceLeft[player.getPlayerId()] = in.readVarint();
+    }
+
+    @Override
+    protected void commitPlayerSnapshots() {
+        distanceLeftToTravel = restoredDistanceLeft;
+        restoredDistanceLeft = null;
+        playersTravelling = 0;
+        for (int distanceLeft : distanceLeftToTravel) {
+            if (distanceLeft > 0)
+                playersTravelling++;
+        }
     }
 }
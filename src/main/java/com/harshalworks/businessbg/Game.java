@@ -25,12 +25,22 @@ package com.harshalworks.businessbg;
 
 import com.harshalworks.businessbg.bank.Bank;
 import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.RentableCell;
+import com.harshalworks.businessbg.dealers.MarketAssistant;
+import com.harshalworks.businessbg.dealers.PropertyAck;
 import com.harshalworks.businessbg.dice.Dice;
 import com.harshalworks.businessbg.exceptions.*;
+import com.harshalworks.businessbg.jfr.GameFinishedEvent;
+import com.harshalworks.businessbg.jfr.GameStartedEvent;
+import com.harshalworks.businessbg.jfr.MakeMoveEvent;
+import com.harshalworks.businessbg.management.EngineStats;
+import com.harshalworks.businessbg.metrics.GameMetrics;
 import com.harshalworks.businessbg.player.BoardGamePlayer;
 import com.harshalworks.businessbg.player.Player;
 import com.harshalworks.businessbg.player.PlayerFactory;
 import com.harshalworks.businessbg.rules.Rule;
+import com.harshalworks.businessbg.snapshot.SnapshotReader;
+import com.harshalworks.businessbg.snapshot.SnapshotWriter;
 
 import java.util.*;
 
@@ -45,6 +55,7 @@ import java.util.*;
  * 4. registers players.
  * 5. handles requests from players to make their moves.
  * 6. tells about the money in the bank or with some players.
+ * 7. saves and restores its state as a snapshot.
  */
 public abstract class Game {
 
@@ -52,8 +63,11 @@ public abstract class Game {
     protected final static int GAME_STATE_RUNNING = 1;
     protected final static int GAME_STATE_FINISHED = 2;
 
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
     protected Map<String, BoardGamePlayer> uniquePlayers;
-    protected final Queue<BoardGamePlayer> playersTurnOrder;
+    protected final TurnScheduler<BoardGamePlayer> playersTurnOrder;
     protected BoardGamePlayer playerWithCurrentChance;
     protected final Dice dice;
     protected final Board board;
@@ -63,6 +77,13 @@ public abstract class Game {
     protected String scoreboard;
     protected int gameState = GAME_STATE_WAITING;
     protected final int FIXED_START_AMOUNT_FOR_PLAYER;
+    private GameMetrics metrics;
+    private String gameId;
+    private boolean moveInProgress;
+    private boolean reportedToEngineStats;
+    private boolean retired;
+    // the player making the move was eliminated by it, so the turn is already with the next one.
+    private boolean turnPassedOn;
 
     public Game(final int fixedAmountForPlayer, final PlayerFactory playerFactory, final Bank bank,
                 final Dice dice, final Board board) {
@@ -71,34 +92,145 @@ public abstract class Game {
         this.dice = dice;
         this.board = board;
         this.uniquePlayers = new HashMap<>();
-        this.playersTurnOrder = new LinkedList<>();
+        this.playersTurnOrder = new TurnScheduler<>();
         this.playerFactory = playerFactory;
     }
 
+    /**
+     * Counts this game, its players and its bank in the {@link EngineStats} until it is retired.
+     * Done by the {@link com.harshalworks.businessbg.registry.GameRegistry} for the games it hosts.
+     */
+    public void startReportingToEngineStats() {
+        if (reportedToEngineStats || retired)
+            return;
+        reportedToEngineStats = true;
+        EngineStats.get().gameCreated(gameState);
+        EngineStats.get().playersRegistered(uniquePlayers.size());
+        if (bank != null)
+            bank.startReportingToEngineStats();
+    }
+
+    /**
+     * Releases this game once it won't be played anymore, taking it out of the {@link EngineStats} if it was counted.
+     * Done by the {@link com.harshalworks.businessbg.registry.GameRegistry} when it stops hosting the game,
+     * games played outside of a registry should be retired by their owner.
+     */
+    public void retire() {
+        if (retired)
+            return;
+        retired = true;
+        if (!reportedToEngineStats)
+            return;
+        reportedToEngineStats = false;
+        EngineStats.get().gameRemoved(gameState, uniquePlayers.size());
+        if (bank != null)
+            bank.stopReportingToEngineStats();
+    }
+
+    /**
+     * @param gameId name of this game in the flight recorder events.
+     */
+    public void setGameId(String gameId) {
+        this.gameId = gameId;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Records the latency of the operations, the rules applied and the exceptions thrown into these metrics,
+     * wrap the event publisher in an {@link com.harshalworks.businessbg.metrics.InstrumentedGameEventPublisher}
+     * to time the events. Overriding subclasses are timed for the part they delegate to this class.
+     *
+     * @param metrics shared metrics, or null to stop recording.
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     public Player registerPlayer(final String uniqueName) {
+        long started = startTimer();
+        try {
+            return registerNewPlayer(uniqueName);
+        } catch (RuntimeException e) {
+            recordException(e);
+            throw e;
+        } finally {
+            stopTimer(GameMetrics.Operation.REGISTER_PLAYER, started);
+        }
+    }
+
+    private Player registerNewPlayer(final String uniqueName) {
         if(isRunning())
             throw new CannotRegisterPlayerException(ExceptionMessageConstants.WHEN_THE_GAME_HAS_ALREADY_STARTED);
 
+        BoardGamePlayer registered = uniquePlayers.get(uniqueName);
+        if (registered != null)
+            return registered;
+
         BoardGamePlayer player = playerFactory.newPlayerInstance(FIXED_START_AMOUNT_FOR_PLAYER, uniqueName);
-        if (!uniquePlayers.containsKey(uniqueName)) {
-                registerUniquePlayer(uniqueName, player);
-        }
+        registerUniquePlayer(uniqueName, player);
         return player;
     }
 
+    /**
+     * Players get their turn order slot as dense id, used to keep per player state in arrays.
+     */
     protected void registerUniquePlayer(String uniqueName, BoardGamePlayer player) {
         uniquePlayers.put(uniqueName, player);
-        playersTurnOrder.add(player);
+        player.setPlayerId(playersTurnOrder.add(player));
+        if (reportedToEngineStats)
+            EngineStats.get().playersRegistered(1);
+    }
+
+    /**
+     * @return the registered instance of the player, found by id when it is one, else by name.
+     */
+    protected BoardGamePlayer getRegisteredPlayer(Player player) {
+        if (player instanceof BoardGamePlayer) {
+            int playerId = ((BoardGamePlayer) player).getPlayerId();
+            if (playerId >= 0 && playerId < playersTurnOrder.getSlotsUsed()
+                    && playersTurnOrder.get(playerId) == player)
+                return (BoardGamePlayer) player;
+        }
+        return uniquePlayers.get(player.getUniqueName());
     }
 
     public void start() {
-        validateIfRunnable();
-        runGame();
+        long started = startTimer();
+        try {
+            validateIfRunnable();
+            runGame();
+            GameStartedEvent.emit(gameId, playersTurnOrder.size(), board == null ? 0 : board.getBoardLength());
+        } catch (RuntimeException e) {
+            recordException(e);
+            throw e;
+        } finally {
+            stopTimer(GameMetrics.Operation.START, started);
+        }
+    }
+
+    private long startTimer() {
+        GameMetrics metrics = this.metrics;
+        return metrics != null && metrics.isEnabled() ? System.nanoTime() : NOT_TIMED;
+    }
+
+    private void stopTimer(GameMetrics.Operation operation, long started) {
+        GameMetrics metrics = this.metrics;
+        if (started != NOT_TIMED && metrics != null)
+            metrics.recordOperation(operation, System.nanoTime() - started);
+    }
+
+    private void recordException(RuntimeException e) {
+        GameMetrics metrics = this.metrics;
+        if (metrics != null && metrics.isEnabled())
+            metrics.recordException(e);
     }
 
     private void runGame() {
-        gameState = GAME_STATE_RUNNING;
-        playerWithCurrentChance = playersTurnOrder.poll();
+        changeGameState(GAME_STATE_RUNNING);
+        playerWithCurrentChance = playersTurnOrder.start();
     }
 
 
@@ -120,9 +252,35 @@ public abstract class Game {
         return bank.getAvailableAmount();
     }
 
+    /**
+     * @return the registered player with this name, or null.
+     */
+    public Player getPlayer(String uniqueName) {
+        return uniquePlayers.get(uniqueName);
+    }
+
     private void nextTurn() {
-        playersTurnOrder.add(playerWithCurrentChance);
-        playerWithCurrentChance = playersTurnOrder.poll();
+        if (turnPassedOn) {
+            turnPassedOn = false;
+            return;
+        }
+        playerWithCurrentChance = playersTurnOrder.advance();
+    }
+
+    /**
+     * Takes the player out of the turn order for the rest of the game, they stay registered.
+     * If it was their turn, it passes to the next player, also when they are eliminated by the rule of their own move:
+     * the turn then isn't passed on again at the end of the move.
+     */
+    protected void eliminatePlayer(BoardGamePlayer player) {
+        int slot = player.getPlayerId();
+        if (!playersTurnOrder.isActive(slot) || playersTurnOrder.get(slot) != player)
+            return;
+        playersTurnOrder.remove(slot);
+        if (player == playerWithCurrentChance) {
+            playerWithCurrentChance = playersTurnOrder.current();
+            turnPassedOn = moveInProgress;
+        }
     }
 
     public String getPlayerWithCurrentTurn() {
@@ -136,15 +294,32 @@ public abstract class Game {
     }
 
     public void makeMove(Player player) {
-        validateMove(player);
-        movePlayerAheadByAmount(playerWithCurrentChance, rollTheDice());
-        applyRuleAtCurrentPosition(playerWithCurrentChance);
-        updateGameState();
+        long started = startTimer();
+        MakeMoveEvent event = MakeMoveEvent.beginIfEnabled();
+        try {
+            validateMove(player);
+            moveInProgress = true;
+            BoardGamePlayer mover = playerWithCurrentChance;
+            int diceValue = rollTheDice();
+            movePlayerAheadByAmount(mover, diceValue);
+            applyRuleAtCurrentPosition(mover);
+            updateGameState();
+            EngineStats.get().moveMade();
+            if (event != null)
+                event.commit(gameId, mover.getPlayerId(), diceValue, mover.getCurrentPosition());
+        } catch (RuntimeException e) {
+            recordException(e);
+            throw e;
+        } finally {
+            moveInProgress = false;
+            turnPassedOn = false;
+            stopTimer(GameMetrics.Operation.MAKE_MOVE, started);
+        }
     }
 
     protected void updateGameState() {
         if(isFinishState())
-            this.gameState = GAME_STATE_FINISHED;
+            setFinished();
         else
             nextTurn();
     }
@@ -164,15 +339,13 @@ public abstract class Game {
      * @param player the player currently being evaluated.
      */
     private void applyRuleAtCurrentPosition(BoardGamePlayer player) {
-        //get the rules applicable on the board at current position.
-        Rule rule = getRuleforCurrentPosition(player);
-
-        // apply these rules to the player.
-        rule.execute(player, bank);
-    }
-
-    private Rule getRuleforCurrentPosition(BoardGamePlayer player) {
-        return board.getRule(player.getCurrentPosition());
+        // apply the rules applicable on the board at current position to the player.
+        int position = player.getCurrentPosition();
+        long started = startTimer();
+        board.applyRule(position, player, bank);
+        GameMetrics metrics = this.metrics;
+        if (started != NOT_TIMED && metrics != null)
+            metrics.recordRule(board.getRuleOpcode(position), System.nanoTime() - started);
     }
 
     protected void movePlayerAheadByAmount(BoardGamePlayer boardGamePlayer, int amount) {
@@ -183,14 +356,22 @@ public abstract class Game {
     }
 
     private void validateIfThisPlayerHaveTurn(Player player) {
-        if (!playerWithCurrentChance.equals(player))
+        // same instance on every regular move, names are only compared for other instances.
+        if (player != playerWithCurrentChance && !playerWithCurrentChance.equals(player))
             throw new PlayerCannotMakeTurnException(ExceptionMessageConstants.TURNS_WHEN_IT_S_NOT_THEIR_CHANCE);
     }
 
     public void purchaseCurrentCellAsset(Player player) {
-        int position = player.getCurrentPosition();
-        board.purchaseCellAsset(position, uniquePlayers.get(player.getUniqueName()), bank);
-
+        long started = startTimer();
+        try {
+            BoardGamePlayer buyer = getRegisteredPlayer(player);
+            board.purchaseCellAsset(buyer.getCurrentPosition(), buyer, bank);
+        } catch (RuntimeException e) {
+            recordException(e);
+            throw e;
+        } finally {
+            stopTimer(GameMetrics.Operation.PURCHASE, started);
+        }
     }
 
     public boolean isRunning() {
@@ -202,9 +383,236 @@ public abstract class Game {
     }
 
     protected void setFinished() {
-        gameState = GAME_STATE_FINISHED;
+        changeGameState(GAME_STATE_FINISHED);
+        GameFinishedEvent.emit(gameId, playersTurnOrder.size(), bank.getAvailableAmount());
+    }
+
+    private void changeGameState(int newGameState) {
+        if (reportedToEngineStats)
+            EngineStats.get().gameStateChanged(gameState, newGameState);
+        gameState = newGameState;
     }
 
     protected abstract boolean isFinishState();
 
+    /**
+     * Rough estimate of the heap retained by this game, to account for memory when hosting many games.
+     * Assumes a 64 bit JVM with compressed references, subclasses add the state they keep.
+     */
+    public long estimateRetainedBytes() {
+        long bytes = 96 + 16 + 64 + board.estimateRetainedBytes();
+        bytes += 64 + 48L * uniquePlayers.size(); // player map and turn order
+        for (BoardGamePlayer player : uniquePlayers.values()) {
+            bytes += player.estimateRetainedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Saves the players, their turn order (eliminated players last), money, positions and properties, the game state, the bank balance
+     * and the owner and membership of every rentable cell. The dice and the viewers are not part of it.
+     *
+     * @return versioned, varint encoded snapshot to give to {@link #restore(byte[])}.
+     */
+    public byte[] snapshot() {
+        BoardGamePlayer[] players = getPlayersInTurnOrder();
+        int playersInTurnOrder = playersTurnOrder.size();
+        SnapshotWriter out = new SnapshotWriter(64 + 32 * players.length + board.getBoardLength());
+        out.writeByte(SNAPSHOT_VERSION);
+        out.writeByte(gameState);
+        out.writeSignedVarint(bank.getAvailableAmount());
+        out.writeString(scoreboard);
+        out.writeByte(playerWithCurrentChance == null ? 0 : 1);
+        out.writeVarint(playersInTurnOrder);
+        out.writeVarint(players.length - playersInTurnOrder);
+        for (BoardGamePlayer player : players) {
+            writePlayer(out, player);
+        }
+        writeBoardOwnership(out, players);
+        return out.toByteArray();
+    }
+
+    /**
+     * Replaces the state of this game with a snapshot taken from a game with the same board layout.
+     * The players are new instances afterwards, look them up with {@link #getPlayer(String)}.
+     * The whole snapshot is read and checked before anything is replaced, so a rejected one leaves this game as it was.
+     *
+     * @throws CannotRestoreGameException if the snapshot is malformed or was taken on another board.
+     */
+    public void restore(byte[] snapshot) {
+        SnapshotReader in = new SnapshotReader(snapshot);
+        int version = in.readByte();
+        if (version != SNAPSHOT_VERSION)
+            throw new CannotRestoreGameException("UNSUPPORTED SNAPSHOT VERSION " + version + ".");
+        int restoredGameState = in.readByte();
+        if (restoredGameState < GAME_STATE_WAITING || restoredGameState > GAME_STATE_FINISHED)
+            throw new CannotRestoreGameException("UNKNOWN GAME STATE " + restoredGameState + ".");
+        int bankAmount = in.readSignedVarint();
+        String restoredScoreboard = in.readString();
+        boolean hasPlayerWithCurrentChance = in.readByte() == 1;
+        int playersInTurnOrder = in.readVarint();
+        long playerCount = (long) playersInTurnOrder + in.readVarint();
+        // every player takes more than a byte, a bigger count can only come from a malformed snapshot.
+        if (playerCount > snapshot.length)
+            throw new CannotRestoreGameException("SNAPSHOT CLAIMS " + playerCount + " PLAYERS.");
+        BoardGamePlayer[] players = new BoardGamePlayer[(int) playerCount];
+        Map<String, BoardGamePlayer> restoredPlayers = new HashMap<>();
+        int boardLength = board.getBoardLength();
+        MarketAssistant[] owners = new MarketAssistant[boardLength];
+        int[] levels = new int[boardLength];
+        try {
+            beginReadingPlayerSnapshots(players.length);
+            for (int i = 0; i < players.length; i++) {
+                players[i] = readPlayer(in, i);
+                if (restoredPlayers.put(players[i].getUniqueName(), players[i]) != null)
+                    throw new CannotRestoreGameException("PLAYER " + players[i].getUniqueName() + " IS IN IT TWICE.");
+            }
+            readBoardOwnership(in, players, owners, levels);
+        } catch (CannotRestoreGameException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CannotRestoreGameException("IT IS MALFORMED.", e);
+        }
+
+        // nothing was changed until here.
+        board.restoreOwnership(owners, levels);
+        commitPlayerSnapshots();
+        changeGameState(restoredGameState);
+        if (reportedToEngineStats)
+            EngineStats.get().playersRegistered(players.length - uniquePlayers.size());
+        bank.setAvailableAmount(bankAmount);
+        scoreboard = restoredScoreboard;
+        uniquePlayers.clear();
+        uniquePlayers.putAll(restoredPlayers);
+        playersTurnOrder.clear();
+        for (BoardGamePlayer player : players) {
+            playersTurnOrder.add(player);
+        }
+        for (int i = playersInTurnOrder; i < players.length; i++) {
+            playersTurnOrder.remove(i);
+        }
+        playerWithCurrentChance = hasPlayerWithCurrentChance ? playersTurnOrder.start() : null;
+    }
+
+    /**
+     * Adds the subclass' own state about this player to the snapshot.
+     */
+    protected void writePlayerSnapshot(BoardGamePlayer player, SnapshotWriter out) {
+    }
+
+    /**
+     * Called before the players of a snapshot are read, with how many there are.
+     */
+    protected void beginReadingPlayerSnapshots(int players) {
+    }
+
+    /**
+     * Reads back what {@link #writePlayerSnapshot(BoardGamePlayer, SnapshotWriter)} wrote for this player.
+     * The rest of the snapshot may still be rejected, so keep what was read aside until {@link #commitPlayerSnapshots()}.
+     */
+    protected void readPlayerSnapshot(BoardGamePlayer player, SnapshotReader in) {
+    }
+
+    /**
+     * Called once the whole snapshot was read and accepted, to replace the subclass' state with what was read.
+     */
+    protected void commitPlayerSnapshots() {
+    }
+
+    /**
+     * @return the players in turn order, followed by the eliminated ones.
+     */
+    private BoardGamePlayer[] getPlayersInTurnOrder() {
+        List<BoardGamePlayer> players = new ArrayList<>(uniquePlayers.size());
+        playersTurnOrder.forEachInTurnOrder(players::add);
+        if (players.size() < uniquePlayers.size()) {
+            Set<BoardGamePlayer> inTurnOrder = Collections.newSetFromMap(new IdentityHashMap<>());
+            inTurnOrder.addAll(players);
+            for (BoardGamePlayer player : uniquePlayers.values()) {
+                if (!inTurnOrder.contains(player))
+                    players.add(player);
+            }
+        }
+        return players.toArray(new BoardGamePlayer[0]);
+    }
+
+    private void writePlayer(SnapshotWriter out, BoardGamePlayer player) {
+        out.writeString(player.getUniqueName());
+        out.writeSignedVarint(player.getMoneyValue());
+        out.writeVarint(player.getCurrentPosition());
+        Set<PropertyAck> properties = player.getPropertiesOwned();
+        out.writeVarint(properties.size());
+        for (PropertyAck property : properties) {
+            // ids given by the board are stored as their position.
+            int position = board.getPropertyPosition(property.getPropertyId());
+            out.writeVarint(position + 1);
+            if (position < 0)
+                out.writeString(property.getPropertyId());
+            out.writeSignedVarint(property.getPropertyValue());
+        }
+        writePlayerSnapshot(player, out);
+    }
+
+    private BoardGamePlayer readPlayer(SnapshotReader in, int playerId) {
+        BoardGamePlayer player = playerFactory.newPlayerInstance(FIXED_START_AMOUNT_FOR_PLAYER, in.readString());
+        player.setPlayerId(playerId);
+        player.setMoneyValue(in.readSignedVarint());
+        player.setPosition(in.readVarint());
+        int properties = in.readVarint();
+        for (int i = 0; i < properties; i++) {
+            int position = in.readVarint() - 1;
+            if (position >= board.getBoardLength())
+                throw new CannotRestoreGameException("PROPERTY AT " + position + " IS OFF THE BOARD.");
+            String propertyId = position < 0 ? in.readString() : board.getPropertyId(position);
+            player.addProperty(new PropertyAck(propertyId, in.readSignedVarint(), position));
+        }
+        readPlayerSnapshot(player, in);
+        return player;
+    }
+
+    private void writeBoardOwnership(SnapshotWriter out, BoardGamePlayer[] players) {
+        out.writeVarint(board.getBoardLength());
+        for (int position = 0; position < board.getBoardLength(); position++) {
+            Rule rule = board.getRule(position);
+            if (!(rule instanceof RentableCell))
+                continue;
+            RentableCell cell = (RentableCell) rule;
+            int owner = indexOf(players, cell.getOwner());
+            out.writeVarint(owner + 1);
+            if (owner >= 0)
+                out.writeVarint(cell.getMembershipLevel());
+        }
+    }
+
+    private static int indexOf(BoardGamePlayer[] players, Object owner) {
+        if (owner == null)
+            return -1;
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] == owner)
+                return i;
+        }
+        throw new IllegalStateException("An asset is owned by someone who isn't playing this game.");
+    }
+
+    private void readBoardOwnership(SnapshotReader in, BoardGamePlayer[] players,
+                                    MarketAssistant[] owners, int[] levels) {
+        int boardLength = in.readVarint();
+        if (boardLength != board.getBoardLength())
+            throw new CannotRestoreGameException("SNAPSHOT IS OF A BOARD OF LENGTH " + boardLength + ".");
+        for (int position = 0; position < boardLength; position++) {
+            Rule rule = board.getRule(position);
+            if (!(rule instanceof RentableCell))
+                continue;
+            int owner = in.readVarint() - 1;
+            if (owner >= players.length)
+                throw new CannotRestoreGameException("CELL " + position + " IS OWNED BY AN UNKNOWN PLAYER.");
+            if (owner >= 0) {
+                owners[position] = players[owner];
+                levels[position] = in.readVarint();
+                if (!((RentableCell) rule).hasMembershipLevel(levels[position]))
+                    throw new CannotRestoreGameException("CELL " + position + " HAS NO MEMBERSHIP " + levels[position] + ".");
+            }
+        }
+    }
+
 }
@@ -33,15 +33,25 @@ import com.harshalworks.businessbg.player.BoardGamePlayer;
 import com.harshalworks.businessbg.player.Player;
 import com.harshalworks.businessbg.player.PlayerFactory;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 public abstract class PublishableGame extends Game{
 
     protected final GameEventPublisher gameEventPublisher;
 
+    // events repeated on every turn are immutable, so they are created once and published again.
+    private GameEvent[] turnChangedEvents;
+    // player each TURN_CHANGED event was created for, by player id.
+    private BoardGamePlayer[] turnChangedPlayers;
+    private GameEvent[] diceRolledEvents;
+
     public PublishableGame(int fixedAmountForPlayer, PlayerFactory playerFactory, Bank bank, Dice dice, Board board, GameEventPublisher gameEventPublisher) {
         super(fixedAmountForPlayer, playerFactory, bank, dice, board);
         this.gameEventPublisher = gameEventPublisher;
+        this.turnChangedEvents = new GameEvent[0];
+        this.turnChangedPlayers = new BoardGamePlayer[0];
+        this.diceRolledEvents = new GameEvent[0];
     }
 
     @Override
@@ -50,6 +60,25 @@ public abstract class PublishableGame extends Game{
         publishGameStartedEvent();
     }
 
+    /**
+     * Also closes the event publisher, when it can be closed, so publishers shouldn't be shared by games retired apart.
+     */
+    @Override
+    public void retire() {
+        super.retire();
+        GameEventPublisher.closeIfCloseable(gameEventPublisher);
+    }
+
+    /**
+     * The restored players are new instances, which may have the ids of others, so their cached events are dropped.
+     */
+    @Override
+    public void restore(byte[] snapshot) {
+        super.restore(snapshot);
+        turnChangedEvents = new GameEvent[0];
+        turnChangedPlayers = new BoardGamePlayer[0];
+    }
+
     @Override
     protected void registerUniquePlayer(String uniqueName, BoardGamePlayer player) {
         super.registerUniquePlayer(uniqueName, player);
@@ -73,27 +102,70 @@ public abstract class PublishableGame extends Game{
         }
     }
 
+    /**
+     * Publishes the purchase at the position of the registered player, the one the game bought at.
+     * Unlike a move, every successful purchase creates its property acknowledgement and event,
+     * which happens at most once per cell and membership in a game.
+     */
     @Override
     public void purchaseCurrentCellAsset(Player player) {
         super.purchaseCurrentCellAsset(player);
-        publishPurchaseEvent(player, player.getCurrentPosition());
+        BoardGamePlayer buyer = getRegisteredPlayer(player);
+        publishPurchaseEvent(buyer, buyer.getCurrentPosition());
     }
 
     private void publishGameFinishedEvent() {
-        gameEventPublisher.publishEvent(new GameEvent("FINISHED", scoreboard));
+        gameEventPublisher.publishEvent(new GameEvent(GameEvent.FINISHED, scoreboard));
     }
 
     private void publishPurchaseEvent(Player player, int position) {
-        gameEventPublisher.publishEvent(new GameEvent("PURCHASED", player.getUniqueName() + "-Cell-" + position));
+        String name = player.getUniqueName();
+        // sized up front, so building the message doesn't grow the builder.
+        String message = new StringBuilder(name.length() + 16).append(name).append("-Cell-").append(position).toString();
+        gameEventPublisher.publishEvent(new GameEvent(GameEvent.PURCHASED, message, name, position));
     }
 
 
     private void publishDiceRolledEvent(int diceValue) {
-        gameEventPublisher.publishEvent(new GameEvent("DICE_ROLLED", ""+diceValue));
+        gameEventPublisher.publishEvent(getDiceRolledEvent(diceValue));
+    }
+
+    private GameEvent getDiceRolledEvent(int diceValue) {
+        if (diceValue < 0)
+            return new GameEvent(GameEvent.DICE_ROLLED, "" + diceValue, null, diceValue);
+        if (diceValue >= diceRolledEvents.length)
+            diceRolledEvents = Arrays.copyOf(diceRolledEvents, diceValue + 1);
+        GameEvent event = diceRolledEvents[diceValue];
+        if (event == null) {
+            event = new GameEvent(GameEvent.DICE_ROLLED, "" + diceValue, null, diceValue);
+            diceRolledEvents[diceValue] = event;
+        }
+        return event;
     }
 
     private void publishTurnChangedEvent() {
-        gameEventPublisher.publishEvent(new GameEvent("TURN_CHANGED", playerWithCurrentChance.getUniqueName()));
+        gameEventPublisher.publishEvent(getTurnChangedEvent(playerWithCurrentChance));
+    }
+
+    private GameEvent getTurnChangedEvent(BoardGamePlayer player) {
+        int playerId = player.getPlayerId();
+        if (playerId >= turnChangedEvents.length) {
+            int length = Math.max(playerId + 1, 2 * turnChangedEvents.length);
+            turnChangedEvents = Arrays.copyOf(turnChangedEvents, length);
+            turnChangedPlayers = Arrays.copyOf(turnChangedPlayers, length);
+        }
+        if (turnChangedPlayers[playerId] != player) {
+            turnChangedEvents[playerId] = new GameEvent(GameEvent.TURN_CHANGED, player.getUniqueName(), player.getUniqueName(), 0);
+            turnChangedPlayers[playerId] = player;
+        }
+        return turnChangedEvents[playerId];
+    }
+
+    @Override
+    public long estimateRetainedBytes() {
+        // cached TURN_CHANGED and DICE_ROLLED events, the messages are shared with the players or small.
+        return super.estimateRetainedBytes() + 32 + (8 + 40L) * turnChangedEvents.length
+                + 16 + 4L * diceRolledEvents.length + 64L * diceRolledEvents.length;
     }
 
     public void subscribe(Viewer viewer) {
@@ -101,7 +173,7 @@ public abstract class PublishableGame extends Game{
     }
 
     protected void publishNewPlayerRegisterEvent(String name) {
-        GameEvent player_joined = new GameEvent("PLAYER_JOINED", name);
+        GameEvent player_joined = new GameEvent(GameEvent.PLAYER_JOINED, name, name, 0);
         gameEventPublisher.publishEvent(player_joined);
     }
 
@@ -112,6 +184,6 @@ public abstract class PublishableGame extends Game{
             if(iterator.hasNext())
                 playersList.append(", ");
         }
-        gameEventPublisher.publishEvent(new GameEvent("GAME_STARTED", playersList.toString()));
+        gameEventPublisher.publishEvent(new GameEvent(GameEvent.GAME_STARTED, playersList.toString()));
     }
 }
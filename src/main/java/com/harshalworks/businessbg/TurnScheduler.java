@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Round robin turn order over a fixed array of players.
+ *
+ * Players keep the slot they were added at. The active slots are linked in a ring by index arrays,
+ * so advancing the turn, asking whose turn it is and removing a player are all O(1) and allocation free.
+ *
+ * @param <P> type of the players.
+ */
+public class TurnScheduler<P> {
+
+    private static final int NONE = -1;
+
+    private Object[] players;
+    private int[] next;
+    private int[] previous;
+    private int slotsUsed;
+    private int activePlayers;
+    private int head;
+    private int cursor;
+
+    public TurnScheduler() {
+        this(8);
+    }
+
+    public TurnScheduler(int expectedPlayers) {
+        int capacity = Math.max(expectedPlayers, 2);
+        this.players = new Object[capacity];
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+        this.head = NONE;
+        this.cursor = NONE;
+    }
+
+    /**
+     * Adds the player at the end of the turn order.
+     *
+     * @return slot of the player.
+     */
+    public int add(P player) {
+        if (slotsUsed == players.length)
+            grow();
+        int slot = slotsUsed++;
+        players[slot] = player;
+        if (head == NONE) {
+            next[slot] = slot;
+            previous[slot] = slot;
+            head = slot;
+        } else {
+            int tail = previous[head];
+            next[tail] = slot;
+            previous[slot] = tail;
+            next[slot] = head;
+            previous[head] = slot;
+        }
+        activePlayers++;
+        return slot;
+    }
+
+    private void grow() {
+        int capacity = players.length * 2;
+        players = Arrays.copyOf(players, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+    }
+
+    /**
+     * Takes the player out of the turn order. If it was their turn, it passes to the next player.
+     */
+    public void remove(int slot) {
+        if (!isActive(slot))
+            throw new IllegalArgumentException("No active player at slot " + slot);
+        if (activePlayers == 1) {
+            head = NONE;
+            cursor = NONE;
+        } else {
+            int after = next[slot];
+            int before = previous[slot];
+            next[before] = after;
+            previous[after] = before;
+            if (head == slot)
+                head = after;
+            if (cursor == slot)
+                cursor = after;
+        }
+        next[slot] = NONE;
+        previous[slot] = NONE;
+        activePlayers--;
+    }
+
+    /**
+     * Gives the turn to the first player added who is still active.
+     *
+     * @return the player having the turn, null if there is none.
+     */
+    public P start() {
+        cursor = head;
+        return current();
+    }
+
+    /**
+     * @return the player whose turn is next, who now has the turn, null if there is none.
+     */
+    public P advance() {
+        if (cursor == NONE)
+            return null;
+        cursor = next[cursor];
+        return current();
+    }
+
+    @SuppressWarnings("unchecked")
+    public P current() {
+        return cursor == NONE ? null : (P) players[cursor];
+    }
+
+    public int currentSlot() {
+        return cursor;
+    }
+
+    @SuppressWarnings("unchecked")
+    public P get(int slot) {
+        return (P) players[slot];
+    }
+
+    public boolean isActive(int slot) {
+        return slot >= 0 && slot < slotsUsed && next[slot] != NONE;
+    }
+
+    /**
+     * @return slot of the player, or -1 if they are not active. Linear in the number of players.
+     */
+    public int indexOf(P player) {
+        for (int slot = 0; slot < slotsUsed; slot++) {
+            if (players[slot] == player && next[slot] != NONE)
+                return slot;
+        }
+        return NONE;
+    }
+
+    /**
+     * @return number of slots handed out, active or not.
+     */
+    public int getSlotsUsed() {
+        return slotsUsed;
+    }
+
+    /**
+     * @return number of active players.
+     */
+    public int size() {
+        return activePlayers;
+    }
+
+    /**
+     * Visits the active players in turn order, from the one having the turn, or from the first one before start.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachInTurnOrder(Consumer<? super P> action) {
+        int slot = cursor == NONE ? head : cursor;
+        for (int i = 0; i < activePlayers; i++) {
+            action.accept((P) players[slot]);
+            slot = next[slot];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(players, 0, slotsUsed, null);
+        slotsUsed = 0;
+        activePlayers = 0;
+        head = NONE;
+        cursor = NONE;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.analysis;
+
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.CompiledBoard;
+import com.harshalworks.businessbg.dice.RollDistribution;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Prices a board analytically: where players land and what the rentable cells earn, from the dice
+ * distribution alone, without simulating any games.
+ *
+ * Every move takes a player ahead by the rolled amount, so a player's position is a Markov chain over the
+ * cells with a sparse transition: one entry per value the dice can roll. Custom cells are assumed to leave
+ * players where they landed.
+ */
+public class LandingAnalyzer {
+
+    public static final int DEFAULT_MAX_ITERATIONS = 100_000;
+    public static final double DEFAULT_TOLERANCE = 1e-12;
+
+    /** boards of at least this many cells are iterated in parallel, in slices of this size. */
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+    /** cell updates the default iteration runs at most, so large boards with custom cells finish in seconds. */
+    static final long DEFAULT_CELL_UPDATES = 4_000_000_000L;
+
+    private final CompiledBoard board;
+    private final RollDistribution rolls;
+    private final ForkJoinPool pool;
+    private final int[] shifts;
+    private final double[] shiftProbabilities;
+
+    public LandingAnalyzer(Board board, RollDistribution rolls) {
+        this(board, rolls, ForkJoinPool.commonPool());
+    }
+
+    public LandingAnalyzer(Board board, RollDistribution rolls, ForkJoinPool pool) {
+        this.board = CompiledBoard.compileWithCustomCells(board);
+        this.rolls = rolls;
+        this.pool = pool;
+        int boardLength = board.getBoardLength();
+        int faces = 0;
+        for (int roll = rolls.getMinRoll(); roll <= rolls.getMaxRoll(); roll++) {
+            if (rolls.getProbability(roll) > 0)
+                faces++;
+        }
+        shifts = new int[faces];
+        shiftProbabilities = new double[faces];
+        int face = 0;
+        for (int roll = rolls.getMinRoll(); roll <= rolls.getMaxRoll(); roll++) {
+            if (rolls.getProbability(roll) > 0) {
+                shifts[face] = roll % boardLength;
+                shiftProbabilities[face++] = rolls.getProbability(roll);
+            }
+        }
+    }
+
+    /**
+     * The moves don't depend on the cells of a board of standard cells, every cell shifts the players around the board
+     * alike, so in the long run they land uniformly on the cells they can reach from the start cell: the multiples of
+     * the greatest common divisor of the board length and the rolls. That distribution is returned directly.
+     * Boards with custom cells are iterated, with a tolerance of {@link #DEFAULT_TOLERANCE} per cell and as many
+     * iterations as fit in {@link #DEFAULT_CELL_UPDATES}, between 1000 and {@link #DEFAULT_MAX_ITERATIONS}.
+     */
+    public LandingDistribution stationaryDistribution() {
+        int boardLength = board.getBoardLength();
+        if (!board.hasCustomRules())
+            return uniformOverReachableCells();
+        int maxIterations = (int) Math.max(1000, Math.min(DEFAULT_MAX_ITERATIONS, DEFAULT_CELL_UPDATES / boardLength));
+        return stationaryDistribution(maxIterations, DEFAULT_TOLERANCE * boardLength);
+    }
+
+    private LandingDistribution uniformOverReachableCells() {
+        int boardLength = board.getBoardLength();
+        int step = boardLength;
+        for (int shift : shifts) {
+            step = gcd(step, shift);
+        }
+        double[] probabilities = new double[boardLength];
+        double probability = (double) step / boardLength;
+        for (int position = 0; position < boardLength; position += step) {
+            probabilities[position] = probability;
+        }
+        return new LandingDistribution(probabilities, 0, true);
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+
+    /**
+     * Power iteration from the start cell until the distribution changes by less than the tolerance.
+     * Every step stays put with probability one half, which keeps the stationary distribution but makes the
+     * iteration converge even for dice that could only ever reach every other cell.
+     *
+     * @param maxIterations iterations to run at most.
+     * @param tolerance     sum of the absolute changes of all cells under which the iteration stops.
+     */
+    public LandingDistribution stationaryDistribution(int maxIterations, double tolerance) {
+        int boardLength = board.getBoardLength();
+        double[] current = new double[boardLength];
+        double[] next = new double[boardLength];
+        current[0] = 1;
+        int iteration = 0;
+        boolean converged = false;
+        while (iteration < maxIterations && !converged) {
+            double change = boardLength < PARALLEL_THRESHOLD
+                    ? step(current, next, 0, boardLength)
+                    : pool.invoke(new StepTask(current, next, 0, boardLength));
+            double[] swap = current;
+            current = next;
+            next = swap;
+            iteration++;
+            converged = change < tolerance;
+        }
+        return new LandingDistribution(current, iteration, converged);
+    }
+
+    /**
+     * Computes the next distribution of the cells in the range.
+     *
+     * @return sum of the absolute changes of those cells.
+     */
+    private double step(double[] current, double[] next, int from, int to) {
+        int boardLength = current.length;
+        double change = 0;
+        for (int position = from; position < to; position++) {
+            double arriving = 0;
+            for (int face = 0; face < shifts.length; face++) {
+                int origin = position - shifts[face];
+                if (origin < 0)
+                    origin += boardLength;
+                arriving += shiftProbabilities[face] * current[origin];
+            }
+            double probability = 0.5 * (current[position] + arriving);
+            change += Math.abs(probability - current[position]);
+            next[position] = probability;
+        }
+        return change;
+    }
+
+    /**
+     * Expected number of times one player of a {@link com.harshalworks.businessbg.FixedRoundsGame} lands
+     * on every cell. The player starts on cell 0 and stops after the move that completes the rounds, so this
+     * is computed over the distance travelled: the probability that the rolls add up to exactly d follows from
+     * the probabilities of the previous {@code maxRoll} distances.
+     *
+     * @return expected landings, indexed by position.
+     */
+    public double[] expectedVisits(int roundsToPlay) {
+        if (roundsToPlay <= 0)
+            throw new IllegalArgumentException("Rounds to play must be positive: " + roundsToPlay);
+        int boardLength = board.getBoardLength();
+        long lengthToTravel = (long) boardLength * roundsToPlay;
+        int maxRoll = rolls.getMaxRoll();
+        double[] reached = new double[maxRoll + 1]; // probability of reaching distance d, at d % (maxRoll + 1)
+        double[] visits = new double[boardLength];
+        reached[0] = 1;
+
+        for (long distance = 1; distance < lengthToTravel; distance++) {
+            double probability = reachProbability(reached, distance, 0);
+            reached[(int) (distance % reached.length)] = probability;
+            visits[(int) (distance % boardLength)] += probability;
+        }
+        // last move of the player, from a distance short of the rounds to one at or past them.
+        for (long distance = lengthToTravel; distance < lengthToTravel + maxRoll; distance++) {
+            long lastDistanceBefore = lengthToTravel - 1;
+            visits[(int) (distance % boardLength)] += reachProbability(reached, distance, distance - lastDistanceBefore);
+        }
+        return visits;
+    }
+
+    private double reachProbability(double[] reached, long distance, long minRoll) {
+        double probability = 0;
+        for (int roll = (int) Math.max(minRoll, rolls.getMinRoll()); roll <= rolls.getMaxRoll(); roll++) {
+            long from = distance - roll;
+            if (from < 0)
+                break;
+            probability += rolls.getProbability(roll) * reached[(int) (from % reached.length)];
+        }
+        return probability;
+    }
+
+    /**
+     * Return on investment of owning every rentable cell at one membership level for a whole game:
+     * (expected rent - cost of the membership) / cost of the membership.
+     *
+     * @param tenants         players paying rent to the owner, usually the number of opponents.
+     * @param membershipLevel index of the membership in the cell's cost/rent table.
+     * @return return on investment, indexed by position, NaN for cells that cannot be owned at that level.
+     */
+    public double[] expectedReturnOnInvestment(int roundsToPlay, int tenants, int membershipLevel) {
+        double[] visits = expectedVisits(roundsToPlay);
+        double[] returns = new double[visits.length];
+        for (int position = 0; position < visits.length; position++) {
+            if (board.getOpcode(position) != CompiledBoard.RENTABLE
+                    || membershipLevel >= board.getMembershipLevels(position) || membershipLevel < 0
+                    || board.getCost(position, membershipLevel) <= 0) {
+                returns[position] = Double.NaN;
+                continue;
+            }
+            int cost = board.getCost(position, membershipLevel);
+            double rent = visits[position] * tenants * board.getRent(position, membershipLevel);
+            returns[position] = (rent - cost) / cost;
+        }
+        return returns;
+    }
+
+    private class StepTask extends RecursiveTask<Double> {
+
+        private final double[] current;
+        private final double[] next;
+        private final int from;
+        private final int to;
+
+        StepTask(double[] current, double[] next, int from, int to) {
+            this.current = current;
+            this.next = next;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Double compute() {
+            if (to - from <= PARALLEL_THRESHOLD)
+                return step(current, next, from, to);
+            int middle = (from + to) >>> 1;
+            StepTask left = new StepTask(current, next, from, middle);
+            left.fork();
+            double right = new StepTask(current, next, middle, to).compute();
+            return right + left.join();
+        }
+    }
+}
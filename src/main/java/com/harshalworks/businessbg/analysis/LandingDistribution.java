@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.analysis;
+
+/**
+ * Long run probability of landing on every cell of a board, as computed by {@link LandingAnalyzer}.
+ */
+public final class LandingDistribution {
+
+    private final double[] probabilities;
+    private final int iterations;
+    private final boolean converged;
+
+    LandingDistribution(double[] probabilities, int iterations, boolean converged) {
+        this.probabilities = probabilities;
+        this.iterations = iterations;
+        this.converged = converged;
+    }
+
+    public double getProbability(int position) {
+        return probabilities[position];
+    }
+
+    /**
+     * @return copy of the probability of every cell, indexed by position.
+     */
+    public double[] getProbabilities() {
+        return probabilities.clone();
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return false if the iterations ran out before reaching the tolerance, the probabilities are then
+     * the distribution after that many moves from the start cell.
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+}
@@ -25,32 +25,67 @@ package com.harshalworks.businessbg.bank;
 
 import com.harshalworks.businessbg.dealers.MarketAssistant;
 import com.harshalworks.businessbg.dealers.PropertyAck;
+import com.harshalworks.businessbg.management.EngineStats;
 
 public class Bank implements MarketAssistant {
 
     private int bankMoneyValue;
+    private boolean reportedToEngineStats;
 
     public Bank(int initialBankAmount) {
         this.bankMoneyValue = initialBankAmount;
     }
 
+    /**
+     * Counts this bank and its balance in the {@link EngineStats}, done by the game owning it.
+     */
+    public void startReportingToEngineStats() {
+        if (reportedToEngineStats)
+            return;
+        reportedToEngineStats = true;
+        EngineStats.get().bankCreated(bankMoneyValue);
+    }
+
+    /**
+     * Takes this bank and its balance out of the {@link EngineStats}.
+     */
+    public void stopReportingToEngineStats() {
+        if (!reportedToEngineStats)
+            return;
+        reportedToEngineStats = false;
+        EngineStats.get().bankRemoved(bankMoneyValue);
+    }
+
+    private void reportBalanceChange(long amount) {
+        if (reportedToEngineStats)
+            EngineStats.get().bankBalanceChanged(amount);
+    }
+
     public int getAvailableAmount() {
         return bankMoneyValue;
     }
 
+    public void setAvailableAmount(int amount) {
+        reportBalanceChange((long) amount - bankMoneyValue);
+        this.bankMoneyValue = amount;
+    }
+
     @Override
     public void addMoney(int amount) {
         bankMoneyValue += amount;
+        reportBalanceChange(amount);
     }
 
     @Override
     public void deductMoney(int amount) {
         bankMoneyValue -= amount;
+        reportBalanceChange(-amount);
     }
 
     @Override
     public void addProperty(PropertyAck propertyDetails) {
         bankMoneyValue += propertyDetails.getPropertyValue();
+        reportBalanceChange(propertyDetails.getPropertyValue());
     }
 
     @Override
@@ -32,15 +32,49 @@ import com.harshalworks.businessbg.exceptions.CannotInitializeBoardException;
 import com.harshalworks.businessbg.exceptions.CannotPurchaseThisAsset;
 import com.harshalworks.businessbg.exceptions.ExceptionMessageConstants;
 import com.harshalworks.businessbg.exceptions.InvalidBoardPositionException;
+import com.harshalworks.businessbg.jfr.RentPaidEvent;
+import com.harshalworks.businessbg.jfr.TransactionEvent;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
 import com.harshalworks.businessbg.rules.Rule;
 
 public class Board {
 
+    private static final BlankCell BLANK_CELL = new BlankCell();
+
     private final Cell[] boardPath;
+    private final int boardLength;
+    private final CompiledBoard template;
+    private final byte[] membershipLevels;
+    private String[] propertyIds;
+    private OwnershipIndex ownershipIndex;
+    // views of the rentable cells of a template board, created on first use.
+    private OverlayRentableCell[] rentableViews;
 
     public Board(Cell[] boardCellsPath) {
         validateBoardLengthIsNonZero(boardCellsPath);
         boardPath = boardCellsPath;
+        boardLength = boardCellsPath.length;
+        template = null;
+        membershipLevels = null;
+    }
+
+    /**
+     * Creates a board backed by a shared template. The cell definitions stay in the template, this board only
+     * keeps who owns each cell and at which membership level, so one template can back any number of games.
+     * Custom cells of the template are shared by all of its boards as they are.
+     *
+     * @param template compiled cell definitions of the board.
+     */
+    public Board(CompiledBoard template) {
+        if (template == null || template.getBoardLength() == 0)
+            throw new CannotInitializeBoardException(ExceptionMessageConstants.GIVEN_BOARD_LENGTH_IS_ZERO);
+        if (template.getMaxMembershipLevels() > Byte.MAX_VALUE)
+            throw new CannotInitializeBoardException("A cell of the template has too many memberships.");
+        boardPath = null;
+        boardLength = template.getBoardLength();
+        this.template = template;
+        membershipLevels = new byte[boardLength];
+        ownershipIndex = new OwnershipIndex(boardLength);
     }
 
     private void validateBoardLengthIsNonZero(Cell[] cells) {
@@ -49,7 +83,7 @@ public class Board {
     }
 
     public int getBoardLength() {
-        return boardPath.length;
+        return boardLength;
     }
 
     /**
@@ -59,6 +93,9 @@ public class Board {
      * @return Rule / Command applicable to players at this cell.
      */
     public Rule getRule(int position) {
+        if (template != null)
+            return getTemplateRule(position);
+
         Rule rule;
         try {
             rule = boardPath[position];
@@ -67,18 +104,139 @@ public class Board {
         }
 
         if (rule == null)
-            return new BlankCell();
+            return BLANK_CELL;
 
         return rule;
     }
 
-    public void purchaseCellAsset(int position, MarketAssistant buyer, MarketAssistant seller) {
-        validateIfCellIsAnAsset(position);
+    private Rule getTemplateRule(int position) {
+        if (position < 0 || position >= boardLength)
+            throw new InvalidBoardPositionException(position, boardLength);
+        switch (template.getOpcode(position)) {
+            case CompiledBoard.BLANK:
+                return BLANK_CELL;
+            case CompiledBoard.PAY_TO_BANK:
+            case CompiledBoard.BANK_REWARD:
+                return template.getStandardCell(position);
+            case CompiledBoard.RENTABLE:
+                return getRentableView(position);
+            default:
+                return template.getCustomRule(position);
+        }
+    }
+
+    /**
+     * Applies the rule at this position to the player, same as {@code getRule(position).execute(player, bank)}
+     * except that the rent paid is also recorded as a {@link RentPaidEvent} with its position.
+     * Boards backed by a template run the standard cells from it through a switch, custom cells are still executed
+     * as rules. Boards of cells execute their cells as they are, so changes made to the cells are always seen.
+     */
+    public void applyRule(int position, BoardGamePlayer player, MarketAssistant bank) {
+        if (template == null) {
+            applyCellRule(position, player, bank);
+            return;
+        }
+        if (position < 0 || position >= boardLength)
+            throw new InvalidBoardPositionException(position, boardLength);
+        switch (template.getOpcode(position)) {
+            case CompiledBoard.BLANK:
+                return;
+            case CompiledBoard.PAY_TO_BANK: {
+                int amount = template.getOperand(position);
+                bank.addMoney(amount);
+                player.deductMoney(amount);
+                return;
+            }
+            case CompiledBoard.BANK_REWARD: {
+                int amount = template.getOperand(position);
+                player.addMoney(amount);
+                bank.deductMoney(amount);
+                return;
+            }
+            case CompiledBoard.RENTABLE:
+                payOverlayRent(position, player);
+                return;
+            default:
+                template.getCustomRule(position).execute(player, bank);
+        }
+    }
+
+    private void applyCellRule(int position, BoardGamePlayer player, MarketAssistant bank) {
+        Rule rule = getRule(position);
+        if (rule.getClass() == RentableCell.class)
+            payCellRent(position, player);
+        else
+            rule.execute(player, bank);
+    }
+
+    /**
+     * @return type of the cell at this position, one of the {@link CompiledBoard} opcodes.
+     */
+    public int getRuleOpcode(int position) {
+        if (template == null)
+            return CompiledBoard.opcodeOf(getRule(position));
+        if (position < 0 || position >= boardLength)
+            throw new InvalidBoardPositionException(position, boardLength);
+        return template.getOpcode(position);
+    }
+
+    private OverlayRentableCell getRentableView(int position) {
+        if (rentableViews == null)
+            rentableViews = new OverlayRentableCell[boardLength];
+        OverlayRentableCell view = rentableViews[position];
+        if (view == null) {
+            view = new OverlayRentableCell(this, position, template.getMembershipTable(position));
+            rentableViews[position] = view;
+        }
+        return view;
+    }
+
+    private void payOverlayRent(int position, BoardGamePlayer player) {
+        MarketAssistant owner = ownershipIndex.getOwner(position);
+        if (owner == null || owner == player)
+            return;
+        int rent = template.getRent(position, membershipLevels[position]);
+        owner.addMoney(rent);
+        player.deductMoney(rent);
+        RentPaidEvent.emit(player, owner, position, rent);
+    }
+
+    private void payCellRent(int position, BoardGamePlayer player) {
         RentableCell cell = (RentableCell) boardPath[position];
-        makeTransaction(position, buyer, seller, cell);
+        int rent = cell.payRent(player);
+        if (rent != 0)
+            RentPaidEvent.emit(player, cell.getOwner(), position, rent);
+    }
+
+    MarketAssistant getOverlayOwner(int position) {
+        return ownershipIndex.getOwner(position);
+    }
+
+    int getOverlayMembershipLevel(int position) {
+        return membershipLevels[position];
+    }
+
+    void setOverlayOwnership(int position, MarketAssistant owner, int membershipLevel) {
+        ownershipIndex.setOwner(position, owner);
+        membershipLevels[position] = (byte) membershipLevel;
+    }
+
+    /**
+     * @return template backing this board, null if the board was built from its own cells.
+     */
+    CompiledBoard getTemplate() {
+        return template;
+    }
+
+    public void purchaseCellAsset(int position, MarketAssistant buyer, MarketAssistant seller) {
+        Rule rule = getRule(position);
+        if (!(rule instanceof Asset))
+            throw new CannotPurchaseThisAsset("Not Purchasable cell asset.");
+        makeTransaction(position, buyer, seller, (Asset) rule);
     }
 
     protected void makeTransaction(int position, MarketAssistant buyer, MarketAssistant seller, Asset asset) {
+        TransactionEvent event = TransactionEvent.beginIfEnabled();
         if (!asset.isPurchasable(buyer))
             throw new CannotPurchaseThisAsset("Purchase/Upgrade not allowed.");
 
@@ -89,11 +247,143 @@ public class Board {
         buyer.deductMoney(netCost);
         seller.addMoney(netCost);
         asset.purchase(buyer);
-        buyer.addProperty(new PropertyAck("CELL_" + position, asset.getMonetaryValue()));
+        getOwnershipIndex().setOwner(position, buyer);
+        buyer.addProperty(new PropertyAck(getPropertyId(position), asset.getMonetaryValue(), position));
+        if (event != null)
+            event.commit(buyer, position, netCost);
+    }
+
+    /**
+     * Sets the owner and membership of a rentable cell directly, without any purchase. Used to restore a saved game.
+     *
+     * @see RentableCell#restoreOwnership(MarketAssistant, int)
+     */
+    public void restoreOwnership(int position, MarketAssistant owner, int membershipLevel) {
+        validateIfCellIsAnAsset(position);
+        ((RentableCell) getRule(position)).restoreOwnership(owner, membershipLevel);
+        getOwnershipIndex().setOwner(position, owner);
+    }
+
+    /**
+     * Replaces the owner and membership of every rentable cell, as {@link #restoreOwnership(int, MarketAssistant, int)}
+     * does for one. The ownership index is rebuilt, so the previous owners aren't retained by it anymore.
+     * All the levels are checked first, so nothing is changed when one of them is rejected.
+     *
+     * @param owners           owner by position, null for cells nobody owns.
+     * @param membershipLevels membership level by position, for the owned cells.
+     */
+    public void restoreOwnership(MarketAssistant[] owners, int[] membershipLevels) {
+        if (owners.length != boardLength || membershipLevels.length != boardLength)
+            throw new IllegalArgumentException("Ownership of " + owners.length + " cells given for a board of " + boardLength);
+        for (int position = 0; position < boardLength; position++) {
+            Rule rule = getRule(position);
+            if (rule instanceof RentableCell && owners[position] != null
+                    && !((RentableCell) rule).hasMembershipLevel(membershipLevels[position]))
+                throw new IllegalArgumentException("No membership at level " + membershipLevels[position]
+                        + " for the cell at " + position);
+        }
+        getOwnershipIndex().clear();
+        for (int position = 0; position < boardLength; position++) {
+            if (getRule(position) instanceof RentableCell)
+                restoreOwnership(position, owners[position], membershipLevels[position]);
+        }
+    }
+
+    /**
+     * Index of who owns which cell. It is built from the cells the first time it is needed and then kept up to date
+     * by purchases and restores made through this board, so cells should not be sold around the board after that.
+     */
+    public OwnershipIndex getOwnershipIndex() {
+        if (ownershipIndex == null) {
+            ownershipIndex = new OwnershipIndex(boardLength);
+            for (int position = 0; position < boardLength; position++) {
+                if (boardPath[position] instanceof RentableCell)
+                    ownershipIndex.setOwner(position, ((RentableCell) boardPath[position]).getOwner());
+            }
+        }
+        return ownershipIndex;
+    }
+
+    /**
+     * @return rent the owner would collect if a player landed on each of its cells once.
+     */
+    public long getRentExposure(MarketAssistant owner) {
+        long[] rent = new long[1];
+        getOwnershipIndex().forEachOwnedCell(owner, position -> rent[0] += template != null
+                ? template.getRent(position, membershipLevels[position])
+                : ((RentableCell) boardPath[position]).getMembershipStatus().getRent());
+        return rent[0];
+    }
+
+    /**
+     * @return rough estimate of the heap used by the cells of this board and the property ids handed out.
+     * Memberships are usually shared between cells, so they are left out.
+     */
+    public long estimateRetainedBytes() {
+        long bytes = 40;
+        if (template != null) {
+            // the template is shared with other boards.
+            bytes += 16 + membershipLevels.length;
+            if (rentableViews != null) {
+                bytes += 16 + 4L * rentableViews.length;
+                for (OverlayRentableCell view : rentableViews) {
+                    if (view != null)
+                        bytes += 32;
+                }
+            }
+        } else {
+            bytes += 16 + 4L * boardPath.length;
+            for (Cell cell : boardPath) {
+                if (cell != null)
+                    bytes += cell instanceof RentableCell ? 24 : 16;
+            }
+        }
+        if (ownershipIndex != null)
+            bytes += ownershipIndex.estimateRetainedBytes();
+        if (propertyIds != null) {
+            bytes += 16 + 4L * propertyIds.length;
+            for (String propertyId : propertyIds) {
+                if (propertyId != null)
+                    bytes += 40 + 2L * propertyId.length();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @return id of the property acknowledgement given for the asset at this position.
+     */
+    public String getPropertyId(int position) {
+        if (propertyIds == null)
+            propertyIds = new String[boardLength];
+        String propertyId = propertyIds[position];
+        if (propertyId == null) {
+            propertyId = "CELL_" + position;
+            propertyIds[position] = propertyId;
+        }
+        return propertyId;
+    }
+
+    /**
+     * @return position of the asset the property id was given for, or -1 if it isn't an id of this board.
+     */
+    public int getPropertyPosition(String propertyId) {
+        if (propertyId == null || !propertyId.startsWith("CELL_") || propertyId.length() > 14)
+            return -1;
+        int position = 0;
+        for (int i = 5; i < propertyId.length(); i++) {
+            char digit = propertyId.charAt(i);
+            if (digit < '0' || digit > '9')
+                return -1;
+            position = position * 10 + (digit - '0');
+        }
+        if (position >= boardLength || !getPropertyId(position).equals(propertyId))
+            return -1;
+        return position;
     }
 
     private void validateIfCellIsAnAsset(int position) {
-        if (!(boardPath[position] instanceof Asset))
+        if (!(getRule(position) instanceof Asset))
             throw new CannotPurchaseThisAsset("Not Purchasable cell asset.");
     }
 }
\ No newline at end of file
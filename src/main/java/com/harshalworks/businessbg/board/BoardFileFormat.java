@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.board;
+
+import java.nio.ByteOrder;
+
+/**
+ * Binary layout of a board file, shared by the writer and the loader.
+ * <p>
+ * A board file starts with {@link #MAGIC}, {@link #VERSION}, the board length and the number of membership
+ * tables, followed by the tables: the number of levels, then name, cost and rent of every level.
+ * Names are written as their length and UTF-8 bytes, -1 standing for null.
+ * <p>
+ * The cells follow as two columns: one opcode byte per cell ({@link CompiledBoard#getOpcode(int)}),
+ * padded to a multiple of 4 bytes, then one int operand per cell ({@link CompiledBoard#getOperand(int)}).
+ * All numbers are little endian so the columns can be copied straight into arrays on common hardware.
+ */
+final class BoardFileFormat {
+
+    static final int MAGIC = 0x42424244; // "BBBD"
+    static final int VERSION = 1;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private BoardFileFormat() {
+    }
+
+    static int paddedTo4(int size) {
+        return (size + 3) & ~3;
+    }
+}
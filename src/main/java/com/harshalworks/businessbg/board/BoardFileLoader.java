@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.board;
+
+import com.harshalworks.businessbg.board.cell.RentableMemberbership;
+import com.harshalworks.businessbg.exceptions.CorruptedBoardFileException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Loads boards written by {@link BoardFileWriter}.
+ *
+ * The file is memory mapped and its opcode and operand columns are bulk copied into the arrays of a
+ * {@link CompiledBoard}, no object is created per cell, so a loaded board takes about 5 bytes a cell.
+ * Boards of any number of games can then be backed by it, see {@link Board#Board(CompiledBoard)}.
+ */
+public final class BoardFileLoader {
+
+    private BoardFileLoader() {
+    }
+
+    /**
+     * @return board backed by the template loaded from the file.
+     */
+    public static Board loadBoard(Path file) {
+        return new Board(load(file));
+    }
+
+    /**
+     * @throws CorruptedBoardFileException if the file is not a valid board file.
+     */
+    public static CompiledBoard load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new CorruptedBoardFileException("FILE IS LARGER THAN 2GB.");
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(BoardFileFormat.BYTE_ORDER);
+            return read(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new CorruptedBoardFileException("FILE IS TRUNCATED.");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static CompiledBoard read(MappedByteBuffer buffer) {
+        if (buffer.remaining() < 16 || buffer.getInt() != BoardFileFormat.MAGIC)
+            throw new CorruptedBoardFileException("NOT A BOARD FILE.");
+        int version = buffer.getInt();
+        if (version != BoardFileFormat.VERSION)
+            throw new CorruptedBoardFileException("UNSUPPORTED VERSION " + version + ".");
+        int boardLength = buffer.getInt();
+        int tableCount = buffer.getInt();
+        if (boardLength <= 0 || tableCount < 0)
+            throw new CorruptedBoardFileException("INVALID BOARD LENGTH " + boardLength + ".");
+
+        RentableMemberbership[][] tables = new RentableMemberbership[tableCount][];
+        for (int table = 0; table < tableCount; table++) {
+            tables[table] = readMembershipTable(buffer);
+        }
+
+        long columnsSize = BoardFileFormat.paddedTo4(boardLength) + 4L * boardLength;
+        if (buffer.remaining() < columnsSize)
+            throw new CorruptedBoardFileException("FILE IS TRUNCATED.");
+        byte[] opcodes = new byte[boardLength];
+        buffer.get(opcodes);
+        buffer.position(buffer.position() + BoardFileFormat.paddedTo4(boardLength) - boardLength);
+        int[] operands = new int[boardLength];
+        buffer.asIntBuffer().get(operands);
+
+        validateCells(opcodes, operands, tables);
+        return new CompiledBoard(opcodes, operands, tables);
+    }
+
+    private static RentableMemberbership[] readMembershipTable(MappedByteBuffer buffer) {
+        int levels = buffer.getInt();
+        if (levels <= 0 || levels > buffer.remaining() / 12)
+            throw new CorruptedBoardFileException("INVALID MEMBERSHIP TABLE OF " + levels + " LEVELS.");
+        RentableMemberbership[] table = new RentableMemberbership[levels];
+        for (int level = 0; level < levels; level++) {
+            String name = readName(buffer);
+            table[level] = new RentableMemberbership(name, buffer.getInt(), buffer.getInt());
+        }
+        return table;
+    }
+
+    private static String readName(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1)
+            return null;
+        if (length < 0 || length > buffer.remaining())
+            throw new CorruptedBoardFileException("INVALID NAME LENGTH " + length + ".");
+        byte[] name = new byte[length];
+        buffer.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static void validateCells(byte[] opcodes, int[] operands, RentableMemberbership[][] tables) {
+        for (int position = 0; position < opcodes.length; position++) {
+            byte opcode = opcodes[position];
+            if (opcode == CompiledBoard.RENTABLE) {
+                if (operands[position] < 0 || operands[position] >= tables.length)
+                    throw new CorruptedBoardFileException("CELL " + position + " HAS NO MEMBERSHIP TABLE.");
+            } else if (opcode < CompiledBoard.BLANK || opcode > CompiledBoard.RENTABLE) {
+                throw new CorruptedBoardFileException("CELL " + position + " HAS UNKNOWN OPCODE " + opcode + ".");
+            }
+        }
+    }
+}
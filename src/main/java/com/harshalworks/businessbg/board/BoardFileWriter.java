@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.board;
+
+import com.harshalworks.businessbg.board.cell.RentableMemberbership;
+import com.harshalworks.businessbg.exceptions.CannotInitializeBoardException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes compiled boards in the column layout described by {@link BoardFileFormat}, to be loaded back
+ * with {@link BoardFileLoader}.
+ */
+public final class BoardFileWriter {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private BoardFileWriter() {
+    }
+
+    /**
+     * Writes the board, replacing the file if it exists.
+     *
+     * @throws CannotInitializeBoardException if the board has custom cells, they have no file form.
+     */
+    public static void write(CompiledBoard board, Path file) {
+        if (board.hasCustomRules())
+            throw new CannotInitializeBoardException("Custom cells cannot be written to a board file.");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header(board));
+            writeOpcodes(channel, board.getOpcodes());
+            writeOperands(channel, board.getOperands());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer header(CompiledBoard board) {
+        RentableMemberbership[][] tables = board.getMembershipTables();
+        int size = 16;
+        for (RentableMemberbership[] table : tables) {
+            size += 4;
+            for (RentableMemberbership membership : table) {
+                size += 12 + encodedName(membership).length;
+            }
+        }
+        ByteBuffer header = ByteBuffer.allocate(size).order(BoardFileFormat.BYTE_ORDER);
+        header.putInt(BoardFileFormat.MAGIC);
+        header.putInt(BoardFileFormat.VERSION);
+        header.putInt(board.getBoardLength());
+        header.putInt(tables.length);
+        for (RentableMemberbership[] table : tables) {
+            header.putInt(table.length);
+            for (RentableMemberbership membership : table) {
+                byte[] name = encodedName(membership);
+                header.putInt(membership.getName() == null ? -1 : name.length);
+                header.put(name);
+                header.putInt(membership.getCost());
+                header.putInt(membership.getRent());
+            }
+        }
+        header.flip();
+        return header;
+    }
+
+    private static byte[] encodedName(RentableMemberbership membership) {
+        String name = membership.getName();
+        return name == null ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeOpcodes(FileChannel channel, byte[] opcodes) throws IOException {
+        writeFully(channel, ByteBuffer.wrap(opcodes));
+        int padding = BoardFileFormat.paddedTo4(opcodes.length) - opcodes.length;
+        writeFully(channel, ByteBuffer.allocate(padding));
+    }
+
+    private static void writeOperands(FileChannel channel, int[] operands) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE).order(BoardFileFormat.BYTE_ORDER);
+        IntBuffer ints = chunk.asIntBuffer();
+        for (int from = 0; from < operands.length; from += ints.capacity()) {
+            int count = Math.min(ints.capacity(), operands.length - from);
+            ints.clear();
+            ints.put(operands, from, count);
+            chunk.clear().limit(count * 4);
+            writeFully(channel, chunk);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
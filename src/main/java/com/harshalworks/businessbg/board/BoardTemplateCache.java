@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.board;
+
+import com.harshalworks.businessbg.board.cell.Cell;
+import com.harshalworks.businessbg.board.cell.factory.BoardCellDuplicatingFactory;
+import com.harshalworks.businessbg.exceptions.CannotInitializeBoardException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the compiled templates of the board layouts used most recently, so a new game only needs
+ * its own small overlay ({@link Board#Board(CompiledBoard)}) instead of a copy of every cell.
+ *
+ * Templates are identified by the content of the layout and the compiled cell of every type the factory creates,
+ * so factories with the same reference cells share templates, and a factory whose reference cells changed gets
+ * a template of its new cells. A lookup only creates one cell per type, the layout is built and compiled on a miss,
+ * outside the lock so a slow build never holds up games being created on other layouts.
+ * When the cache is full the least recently used template is evicted.
+ */
+public class BoardTemplateCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    private final int maximumSize;
+    private final LinkedHashMap<TemplateKey, CompiledBoard> templates;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoardTemplateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize number of templates kept at most.
+     */
+    public BoardTemplateCache(int maximumSize) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        this.maximumSize = maximumSize;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Creates a board of the layout backed by a cached template.
+     *
+     * @see #getTemplate(BoardCellDuplicatingFactory, Object[])
+     */
+    public <T> Board createBoard(BoardCellDuplicatingFactory<T> cellFactory, T[] boardLayout) {
+        return new Board(getTemplate(cellFactory, boardLayout));
+    }
+
+    /**
+     * @return compiled template of the layout built with the factory, the cached one if it has the same cells.
+     * @throws com.harshalworks.businessbg.exceptions.CannotInitializeBoardException if the layout is empty
+     * or the factory creates custom cells, those are never shared between games.
+     */
+    public <T> CompiledBoard getTemplate(BoardCellDuplicatingFactory<T> cellFactory, T[] boardLayout) {
+        TemplateKey key = new TemplateKey(cellFactory, boardLayout);
+        synchronized (templates) {
+            CompiledBoard template = templates.get(key);
+            if (template != null) {
+                hits.increment();
+                return template;
+            }
+        }
+        CompiledBoard built = CompiledBoard.compile(buildBoard(cellFactory, boardLayout));
+        synchronized (templates) {
+            misses.increment();
+            // the caller may change its layout array later, the key keeps its own copy.
+            CompiledBoard template = templates.putIfAbsent(key.withCopyOfLayout(), built);
+            evictLeastRecentlyUsed();
+            return template != null ? template : built;
+        }
+    }
+
+    private static <T> Board buildBoard(BoardCellDuplicatingFactory<T> cellFactory, T[] boardLayout) {
+        Cell[] cells = new Cell[boardLayout.length];
+        for (int position = 0; position < cells.length; position++) {
+            cells[position] = cellFactory.createCell(boardLayout[position]);
+        }
+        return new Board(cells);
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Iterator<Map.Entry<TemplateKey, CompiledBoard>> eldest = templates.entrySet().iterator();
+        while (templates.size() > maximumSize) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return hits over all lookups, 0 before the first lookup.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    private static final class TemplateKey {
+
+        private final Object[] layout;
+        private final Class<?> factoryType;
+        // compiled one cell board of every cell type of the factory, null for the custom ones.
+        private final Map<Object, CompiledBoard> cellTypes;
+        private final int hash;
+
+        <T> TemplateKey(BoardCellDuplicatingFactory<T> cellFactory, T[] layout) {
+            this.layout = layout;
+            this.factoryType = cellFactory.getClass();
+            this.cellTypes = new HashMap<>();
+            int cellTypesHash = 0;
+            for (T cellType : cellFactory.getCellTypes()) {
+                CompiledBoard cell = compileCell(cellFactory.createCell(cellType));
+                cellTypes.put(cellType, cell);
+                cellTypesHash += Objects.hashCode(cellType) ^ (cell == null ? 0 : cell.hashCells());
+            }
+            this.hash = 31 * (31 * Arrays.hashCode(layout) + factoryType.hashCode()) + cellTypesHash;
+        }
+
+        private TemplateKey(TemplateKey key, Object[] layout) {
+            this.layout = layout;
+            this.factoryType = key.factoryType;
+            this.cellTypes = key.cellTypes;
+            this.hash = key.hash;
+        }
+
+        TemplateKey withCopyOfLayout() {
+            return new TemplateKey(this, layout.clone());
+        }
+
+        private static CompiledBoard compileCell(Cell cell) {
+            try {
+                return CompiledBoard.compile(new Board(new Cell[]{cell}));
+            } catch (CannotInitializeBoardException e) {
+                return null; // a custom cell, rejected when a layout using it is built.
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TemplateKey that = (TemplateKey) o;
+            return hash == that.hash && factoryType == that.factoryType
+                    && Arrays.equals(layout, that.layout) && hasSameCellTypes(that);
+        }
+
+        private boolean hasSameCellTypes(TemplateKey that) {
+            if (!cellTypes.keySet().equals(that.cellTypes.keySet()))
+                return false;
+            for (Map.Entry<Object, CompiledBoard> cellType : cellTypes.entrySet()) {
+                CompiledBoard cell = cellType.getValue();
+                CompiledBoard other = that.cellTypes.get(cellType.getKey());
+                if (cell == null || other == null ? cell != other : !cell.hasSameCells(other))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.board;
+
+import com.harshalworks.businessbg.board.cell.BankRewardCell;
+import com.harshalworks.businessbg.board.cell.BlankCell;
+import com.harshalworks.businessbg.board.cell.PayToBankCell;
+import com.harshalworks.businessbg.board.cell.RentableCell;
+import com.harshalworks.businessbg.board.cell.RentableMemberbership;
+import com.harshalworks.businessbg.exceptions.CannotInitializeBoardException;
+import com.harshalworks.businessbg.exceptions.ExceptionMessageConstants;
+import com.harshalworks.businessbg.rules.Rule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read only, column oriented copy of a board's cell definitions.
+ *
+ * Every cell is described by an opcode and one operand:
+ * the amount for {@link #PAY_TO_BANK} and {@link #BANK_REWARD} cells and the index of the
+ * membership table for {@link #RENTABLE} cells. Identical membership tables are stored once.
+ * Custom cells, when allowed, are kept as they are under the {@link #CUSTOM} opcode.
+ *
+ * Ownership is not part of a compiled board, so one compiled board can be shared by any number of games,
+ * see {@link Board#Board(CompiledBoard)}.
+ */
+public class CompiledBoard {
+
+    public static final byte BLANK = 0;
+    public static final byte PAY_TO_BANK = 1;
+    public static final byte BANK_REWARD = 2;
+    public static final byte RENTABLE = 3;
+    public static final byte CUSTOM = 4;
+
+    private static final Rule[] NO_CUSTOM_RULES = new Rule[0];
+
+    private final byte[] opcodes;
+    private final int[] operands;
+    private final RentableMemberbership[][] membershipTables;
+    private final int[][] costTables;
+    private final int[][] rentTables;
+    private final Rule[] customRules;
+    private final int maxMembershipLevels;
+    // immutable cells handed out by boards backed by this template, created on first use. Racy: a cell created
+    // twice by concurrent boards is equivalent, and the cells only have final fields, so they are safely published.
+    private Rule[] standardCells;
+
+    CompiledBoard(byte[] opcodes, int[] operands, RentableMemberbership[][] membershipTables) {
+        this(opcodes, operands, membershipTables, NO_CUSTOM_RULES);
+    }
+
+    CompiledBoard(byte[] opcodes, int[] operands, RentableMemberbership[][] membershipTables, Rule[] customRules) {
+        this.customRules = customRules;
+        this.opcodes = opcodes;
+        this.operands = operands;
+        this.membershipTables = membershipTables;
+        this.costTables = new int[membershipTables.length][];
+        this.rentTables = new int[membershipTables.length][];
+        int maxLevels = 0;
+        for (int table = 0; table < membershipTables.length; table++) {
+            maxLevels = Math.max(maxLevels, membershipTables[table].length);
+            costTables[table] = new int[membershipTables[table].length];
+            rentTables[table] = new int[membershipTables[table].length];
+            for (int level = 0; level < membershipTables[table].length; level++) {
+                costTables[table][level] = membershipTables[table][level].getCost();
+                rentTables[table][level] = membershipTables[table][level].getRent();
+            }
+        }
+        this.maxMembershipLevels = maxLevels;
+    }
+
+    /**
+     * Compiles the cells of the board, only the standard cells have a compiled form.
+     *
+     * @param board board to compile.
+     * @return compiled copy of the board's cell definitions.
+     * @throws CannotInitializeBoardException if the board contains a custom cell.
+     */
+    public static CompiledBoard compile(Board board) {
+        return compile(board, false);
+    }
+
+    /**
+     * Compiles the cells of the board, custom cells are kept as {@link #CUSTOM} rules.
+     *
+     * @param board board to compile.
+     * @return compiled copy of the board's cell definitions.
+     */
+    public static CompiledBoard compileWithCustomCells(Board board) {
+        return compile(board, true);
+    }
+
+    private static CompiledBoard compile(Board board, boolean allowCustomCells) {
+        CompiledBoard template = board.getTemplate();
+        if (template != null && (allowCustomCells || template.customRules.length == 0))
+            return template;
+        int length = board.getBoardLength();
+        byte[] opcodes = new byte[length];
+        int[] operands = new int[length];
+        List<RentableMemberbership[]> tables = new ArrayList<>();
+        Map<MembershipTableKey, Integer> tableIndex = new HashMap<>();
+        List<Rule> customRules = new ArrayList<>();
+
+        for (int position = 0; position < length; position++) {
+            Rule rule = board.getRule(position);
+            byte opcode = opcodeOf(rule);
+            opcodes[position] = opcode;
+            switch (opcode) {
+                case BLANK:
+                    break;
+                case PAY_TO_BANK:
+                    operands[position] = ((PayToBankCell) rule).getAmount();
+                    break;
+                case BANK_REWARD:
+                    operands[position] = ((BankRewardCell) rule).getRewardAmount();
+                    break;
+                case RENTABLE:
+                    operands[position] = indexOf(((RentableCell) rule).getMemberberships(), tables, tableIndex);
+                    break;
+                default:
+                    if (!allowCustomCells)
+                        throw new CannotInitializeBoardException(
+                                String.format(ExceptionMessageConstants.CELL_CANNOT_BE_COMPILED, position));
+                    operands[position] = customRules.size();
+                    customRules.add(rule);
+            }
+        }
+        return new CompiledBoard(opcodes, operands, tables.toArray(new RentableMemberbership[0][]),
+                customRules.isEmpty() ? NO_CUSTOM_RULES : customRules.toArray(new Rule[0]));
+    }
+
+    /**
+     * @return opcode the rule compiles to, {@link #CUSTOM} for anything but the standard cells themselves.
+     */
+    static byte opcodeOf(Rule rule) {
+        Class<?> type = rule.getClass();
+        if (type == BlankCell.class)
+            return BLANK;
+        if (type == PayToBankCell.class)
+            return PAY_TO_BANK;
+        if (type == BankRewardCell.class)
+            return BANK_REWARD;
+        if (type == RentableCell.class)
+            return RENTABLE;
+        return CUSTOM;
+    }
+
+    private static int indexOf(RentableMemberbership[] memberberships, List<RentableMemberbership[]> tables,
+                               Map<MembershipTableKey, Integer> tableIndex) {
+        MembershipTableKey key = new MembershipTableKey(memberberships);
+        Integer index = tableIndex.get(key);
+        if (index == null) {
+            index = tables.size();
+            tables.add(memberberships);
+            tableIndex.put(key, index);
+        }
+        return index;
+    }
+
+    public int getBoardLength() {
+        return opcodes.length;
+    }
+
+    public byte getOpcode(int position) {
+        return opcodes[position];
+    }
+
+    /**
+     * @return amount of a pay-to-bank or bank-reward cell, membership table index of a rentable cell,
+     * index of the rule of a custom cell.
+     */
+    public int getOperand(int position) {
+        return operands[position];
+    }
+
+    public int getMembershipLevels(int position) {
+        return costTables[operands[position]].length;
+    }
+
+    public int getCost(int position, int membershipLevel) {
+        return costTables[operands[position]][membershipLevel];
+    }
+
+    public int getRent(int position, int membershipLevel) {
+        return rentTables[operands[position]][membershipLevel];
+    }
+
+    public RentableMemberbership getMembership(int position, int membershipLevel) {
+        return membershipTables[operands[position]][membershipLevel];
+    }
+
+    /**
+     * @return rule of a {@link #CUSTOM} cell.
+     */
+    public Rule getCustomRule(int position) {
+        return customRules[operands[position]];
+    }
+
+    /**
+     * @return shared {@link PayToBankCell} or {@link BankRewardCell} of this position.
+     */
+    Rule getStandardCell(int position) {
+        Rule[] cells = standardCells;
+        if (cells == null) {
+            cells = new Rule[opcodes.length];
+            standardCells = cells;
+        }
+        Rule cell = cells[position];
+        if (cell == null) {
+            cell = opcodes[position] == PAY_TO_BANK
+                    ? new PayToBankCell(operands[position]) : new BankRewardCell(operands[position]);
+            cells[position] = cell;
+        }
+        return cell;
+    }
+
+    RentableMemberbership[] getMembershipTable(int position) {
+        return membershipTables[operands[position]];
+    }
+
+    byte[] getOpcodes() {
+        return opcodes;
+    }
+
+    int[] getOperands() {
+        return operands;
+    }
+
+    RentableMemberbership[][] getMembershipTables() {
+        return membershipTables;
+    }
+
+    /**
+     * @return whether any cell is a {@link #CUSTOM} one.
+     */
+    public boolean hasCustomRules() {
+        return customRules.length > 0;
+    }
+
+    int getMaxMembershipLevels() {
+        return maxMembershipLevels;
+    }
+
+    public int getNumberOfMembershipTables() {
+        return membershipTables.length;
+    }
+
+    /**
+     * @return true if the other board has the same cells: same opcode, operand and membership table at every position.
+     * Custom rules are compared by identity.
+     */
+    boolean hasSameCells(CompiledBoard other) {
+        if (!Arrays.equals(opcodes, other.opcodes) || !Arrays.equals(operands, other.operands)
+                || !Arrays.equals(customRules, other.customRules)
+                || membershipTables.length != other.membershipTables.length)
+            return false;
+        for (int table = 0; table < membershipTables.length; table++) {
+            if (!new MembershipTableKey(membershipTables[table]).equals(new MembershipTableKey(other.membershipTables[table])))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return hash of the cells, consistent with {@link #hasSameCells(CompiledBoard)}.
+     */
+    int hashCells() {
+        int hash = 31 * Arrays.hashCode(opcodes) + Arrays.hashCode(operands);
+        for (int table = 0; table < membershipTables.length; table++) {
+            hash = 31 * hash + Arrays.hashCode(costTables[table]);
+            hash = 31 * hash + Arrays.hashCode(rentTables[table]);
+        }
+        return hash;
+    }
+
+    private static final class MembershipTableKey {
+
+        private final String[] names;
+        private final int[] costs;
+        private final int[] rents;
+
+        MembershipTableKey(RentableMemberbership[] memberberships) {
+            names = new String[memberberships.length];
+            costs = new int[memberberships.length];
+            rents = new int[memberberships.length];
+            for (int level = 0; level < memberberships.length; level++) {
+                names[level] = memberberships[level].getName();
+                costs[level] = memberberships[level].getCost();
+                rents[level] = memberberships[level].getRent();
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            MembershipTableKey that = (MembershipTableKey) o;
+            return Arrays.equals(costs, that.costs) && Arrays.equals(rents, that.rents)
+                    && Arrays.equals(names, that.names);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(costs) + Arrays.hashCode(rents);
+        }
+    }
+}
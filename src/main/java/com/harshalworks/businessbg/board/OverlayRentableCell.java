@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.board;
+
+import com.harshalworks.businessbg.board.cell.RentableCell;
+import com.harshalworks.businessbg.board.cell.RentableMemberbership;
+import com.harshalworks.businessbg.dealers.MarketAssistant;
+
+/**
+ * Rentable cell of a board backed by a template, its owner and membership level live in the board.
+ * Handed out by {@link Board#getRule(int)}, it holds no state of its own.
+ */
+final class OverlayRentableCell extends RentableCell {
+
+    private final Board board;
+    private final int position;
+
+    OverlayRentableCell(Board board, int position, RentableMemberbership[] memberberships) {
+        super(memberberships);
+        this.board = board;
+        this.position = position;
+    }
+
+    @Override
+    public MarketAssistant getOwner() {
+        return board.getOverlayOwner(position);
+    }
+
+    @Override
+    public int getMembershipLevel() {
+        return board.getOverlayMembershipLevel(position);
+    }
+
+    @Override
+    protected void setOwnership(MarketAssistant owner, int membershipLevel) {
+        board.setOverlayOwnership(position, owner, membershipLevel);
+    }
+}
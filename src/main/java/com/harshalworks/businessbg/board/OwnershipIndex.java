@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.board;
+
+import com.harshalworks.businessbg.dealers.MarketAssistant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Who owns which cell of a board, kept both ways: an owner id per cell and a bitset of cells per owner.
+ * Owners get dense ids in the order they first own a cell, ids are only reused after {@link #clear()}.
+ */
+public final class OwnershipIndex {
+
+    public static final int NO_OWNER = -1;
+
+    private final int[] ownerByCell;
+    private final Map<MarketAssistant, Integer> ownerIds = new IdentityHashMap<>();
+    private final List<MarketAssistant> owners = new ArrayList<>();
+    private final List<BitSet> cellsByOwner = new ArrayList<>();
+
+    OwnershipIndex(int boardLength) {
+        ownerByCell = new int[boardLength];
+        Arrays.fill(ownerByCell, NO_OWNER);
+    }
+
+    void setOwner(int position, MarketAssistant owner) {
+        int previous = ownerByCell[position];
+        if (previous != NO_OWNER)
+            cellsByOwner.get(previous).clear(position);
+        if (owner == null) {
+            ownerByCell[position] = NO_OWNER;
+            return;
+        }
+        // not computeIfAbsent, its lambda would be allocated on every purchase.
+        Integer ownerId = ownerIds.get(owner);
+        if (ownerId == null) {
+            ownerId = owners.size();
+            ownerIds.put(owner, ownerId);
+            owners.add(owner);
+            cellsByOwner.add(new BitSet());
+        }
+        ownerByCell[position] = ownerId;
+        cellsByOwner.get(ownerId).set(position);
+    }
+
+    /**
+     * Forgets every owner, so none of them is retained by the board anymore.
+     */
+    void clear() {
+        Arrays.fill(ownerByCell, NO_OWNER);
+        ownerIds.clear();
+        owners.clear();
+        cellsByOwner.clear();
+    }
+
+    /**
+     * @return owner of the cell at this position, null if nobody owns it.
+     */
+    public MarketAssistant getOwner(int position) {
+        int ownerId = ownerByCell[position];
+        return ownerId == NO_OWNER ? null : owners.get(ownerId);
+    }
+
+    /**
+     * @return id of the owner of the cell at this position, or {@link #NO_OWNER}.
+     */
+    public int getOwnerId(int position) {
+        return ownerByCell[position];
+    }
+
+    /**
+     * @return id given to this owner, or {@link #NO_OWNER} if it never owned a cell of this board.
+     */
+    public int getOwnerId(MarketAssistant owner) {
+        Integer ownerId = ownerIds.get(owner);
+        return ownerId == null ? NO_OWNER : ownerId;
+    }
+
+    public int countOwnedCells(MarketAssistant owner) {
+        int ownerId = getOwnerId(owner);
+        return ownerId == NO_OWNER ? 0 : cellsByOwner.get(ownerId).cardinality();
+    }
+
+    /**
+     * @return copy of the positions owned by this owner.
+     */
+    public BitSet getOwnedCells(MarketAssistant owner) {
+        int ownerId = getOwnerId(owner);
+        return ownerId == NO_OWNER ? new BitSet() : (BitSet) cellsByOwner.get(ownerId).clone();
+    }
+
+    /**
+     * Calls the action with every position owned by this owner, in board order.
+     */
+    public void forEachOwnedCell(MarketAssistant owner, IntConsumer action) {
+        int ownerId = getOwnerId(owner);
+        if (ownerId == NO_OWNER)
+            return;
+        BitSet cells = cellsByOwner.get(ownerId);
+        for (int position = cells.nextSetBit(0); position >= 0; position = cells.nextSetBit(position + 1)) {
+            action.accept(position);
+        }
+    }
+
+    /**
+     * @param group positions of a group of cells, ex: all the cells of one colour.
+     * @return true if the owner owns every cell of the group.
+     */
+    public boolean ownsAll(MarketAssistant owner, BitSet group) {
+        int ownerId = getOwnerId(owner);
+        if (ownerId == NO_OWNER)
+            return group.isEmpty();
+        BitSet cells = cellsByOwner.get(ownerId);
+        for (int position = group.nextSetBit(0); position >= 0; position = group.nextSetBit(position + 1)) {
+            if (!cells.get(position))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return rough estimate of the heap used by this index.
+     */
+    public long estimateRetainedBytes() {
+        long bytes = 64 + 16 + 4L * ownerByCell.length + 48L * owners.size();
+        for (BitSet cells : cellsByOwner) {
+            bytes += 40 + cells.size() / 8;
+        }
+        return bytes;
+    }
+}
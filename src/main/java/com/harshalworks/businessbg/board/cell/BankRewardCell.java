@@ -42,6 +42,10 @@ public class BankRewardCell extends Cell {
         this.rewardAmount = bankRewardCell.rewardAmount;
     }
 
+    public int getRewardAmount() {
+        return rewardAmount;
+    }
+
     @Override
     public void execute(BoardGamePlayer player, MarketAssistant bank) {
         player.addMoney(rewardAmount);
@@ -48,6 +48,10 @@ public class PayToBankCell extends Cell {
         this.amount = payToBankCell.amount;
     }
 
+    public int getAmount() {
+        return amount;
+    }
+
     @Override
     public void execute(BoardGamePlayer player, MarketAssistant bank) {
         bank.addMoney(amount);
@@ -25,7 +25,6 @@ package com.harshalworks.businessbg.board.cell;
 
 import com.harshalworks.businessbg.board.Asset;
 import com.harshalworks.businessbg.dealers.MarketAssistant;
-import com.harshalworks.businessbg.dealers.Payee;
 import com.harshalworks.businessbg.exceptions.CannotPurchaseThisAsset;
 import com.harshalworks.businessbg.player.BoardGamePlayer;
 
@@ -44,35 +43,39 @@ public class RentableCell extends Cell implements Asset {
      * @param rentableCell  existing rent able to duplicate from.
      */
     public RentableCell(final RentableCell rentableCell) {
-        this.owner = rentableCell.owner;
+        this.owner = rentableCell.getOwner();
         this.rentableMemberberships = rentableCell.rentableMemberberships;
-        this.membershipStatus = rentableCell.membershipStatus;
+        this.membershipStatus = rentableCell.getMembershipLevel();
     }
 
     @Override
     public void execute(BoardGamePlayer player, MarketAssistant bank) {
-        if(owner!=null) {
-            payRent(player);
-        }
+        payRent(player);
     }
 
-    protected void payRent(BoardGamePlayer player) {
-        if(player == owner)
-            return;
-        int rent = rentableMemberberships[membershipStatus].getRent();
+    /**
+     * Makes the player pay the rent to the owner, if the cell has an owner other than the player.
+     *
+     * @return rent paid, 0 if none.
+     */
+    public int payRent(BoardGamePlayer player) {
+        MarketAssistant owner = getOwner();
+        if(owner == null || player == owner)
+            return 0;
+        int rent = rentableMemberberships[getMembershipLevel()].getRent();
         owner.addMoney(rent);
         player.deductMoney(rent);
+        return rent;
     }
 
-    public Payee getOwner() {
+    public MarketAssistant getOwner() {
         return owner;
     }
 
     @Override
     public void purchase(MarketAssistant customer) {
-        if(this.owner == null) {
-            this.owner = customer;
-            membershipStatus = 0;
+        if(getOwner() == null) {
+            setOwnership(customer, 0);
             return;
         }
         upgradeMembership();
@@ -80,36 +83,83 @@ public class RentableCell extends Cell implements Asset {
 
     @Override
     public boolean isPurchasable(MarketAssistant customer) {
-        return !(this.owner != null && customer != owner);
+        MarketAssistant owner = getOwner();
+        if(owner == null)
+            return true;
+        return customer == owner && getMembershipLevel() + 1 < rentableMemberberships.length;
     }
 
     protected void upgradeMembership() {
         checkIfUpgradePossible();
-        membershipStatus++;
+        setOwnership(getOwner(), getMembershipLevel() + 1);
     }
 
     @Override
     public int getPurchaseCost() {
-        if(owner == null)
+        if(getOwner() == null)
             return rentableMemberberships[0].getCost();
 
         checkIfUpgradePossible();
 
-        return rentableMemberberships[membershipStatus+1].getCost()
-                - rentableMemberberships[membershipStatus].getCost();
+        int membershipLevel = getMembershipLevel();
+        return rentableMemberberships[membershipLevel+1].getCost()
+                - rentableMemberberships[membershipLevel].getCost();
     }
 
     @Override
     public int getMonetaryValue() {
-        return rentableMemberberships[membershipStatus].getCost();
+        return rentableMemberberships[getMembershipLevel()].getCost();
     }
 
     protected void checkIfUpgradePossible() {
-        if(membershipStatus + 1 >= rentableMemberberships.length)
+        if(getMembershipLevel() + 1 >= rentableMemberberships.length)
             throw new CannotPurchaseThisAsset("No more memberships available");
     }
 
     public RentableMemberbership getMembershipStatus() {
-        return rentableMemberberships[membershipStatus];
+        return rentableMemberberships[getMembershipLevel()];
+    }
+
+    /**
+     * @return index of the current membership in {@link #getMemberberships()}.
+     */
+    public int getMembershipLevel() {
+        return membershipStatus;
+    }
+
+    /**
+     * Sets the owner and membership directly, without any purchase. Used to restore a saved game.
+     *
+     * @param owner           new owner, null to put the cell back on sale.
+     * @param membershipLevel index of the owner's membership, ignored when there is no owner.
+     */
+    public void restoreOwnership(MarketAssistant owner, int membershipLevel) {
+        if (owner != null && !hasMembershipLevel(membershipLevel))
+            throw new IllegalArgumentException("No membership at level " + membershipLevel);
+        setOwnership(owner, owner == null ? 0 : membershipLevel);
+    }
+
+    /**
+     * @return whether this cell offers a membership at this level.
+     */
+    public boolean hasMembershipLevel(int membershipLevel) {
+        return membershipLevel >= 0 && membershipLevel < rentableMemberberships.length;
+    }
+
+    /**
+     * Stores the owner and membership level, the only state of a cell that changes during a game.
+     * Subclasses may keep it somewhere else, ex: in arrays of the board, by overriding this,
+     * {@link #getOwner()} and {@link #getMembershipLevel()}.
+     */
+    protected void setOwnership(MarketAssistant owner, int membershipLevel) {
+        this.owner = owner;
+        this.membershipStatus = membershipLevel;
+    }
+
+    /**
+     * @return all the memberships this cell offers, from the first purchase to the last upgrade.
+     */
+    public RentableMemberbership[] getMemberberships() {
+        return rentableMemberberships.clone();
     }
 }
@@ -28,7 +28,9 @@ import com.harshalworks.businessbg.board.cell.Cell;
 import com.harshalworks.businessbg.exceptions.CellTypeNotDefinedException;
 import com.harshalworks.businessbg.exceptions.ExceptionMessageConstants;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 public abstract class BoardCellDuplicatingFactory<T> {
 
@@ -46,6 +48,13 @@ public abstract class BoardCellDuplicatingFactory<T> {
         return duplicateCell(cell, cellType);
     }
 
+    /**
+     * @return the cell types this factory has a reference cell for.
+     */
+    public Set<T> getCellTypes() {
+        return Collections.unmodifiableSet(cellReference.keySet());
+    }
+
     protected abstract Cell duplicateCell(Cell cell, T cellType);
 
     protected boolean isBlankCell(T cell) {
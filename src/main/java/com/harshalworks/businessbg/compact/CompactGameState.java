@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.compact;
+
+import com.harshalworks.businessbg.board.CompiledBoard;
+import com.harshalworks.businessbg.dice.Dice;
+import com.harshalworks.businessbg.exceptions.CannotPurchaseThisAsset;
+import com.harshalworks.businessbg.exceptions.GameIsNotStartedException;
+
+import java.util.Arrays;
+
+/**
+ * A running fixed rounds game kept in flat primitive arrays, meant for high volume simulation.
+ *
+ * Players are identified by their seat (registration order) and cells by their position.
+ * The move kernel follows {@code FixedRoundsGame.makeMove} and the standard cell rules,
+ * so a compact game fed with the same dice and purchases ends in the same state as the object game.
+ */
+public class CompactGameState {
+
+    public static final int NO_OWNER = -1;
+    private static final int TRAVEL_COMPLETED = Integer.MIN_VALUE;
+
+    private final CompiledBoard board;
+    private final int boardLength;
+    private final int numberOfPlayers;
+
+    private final int[] positions;
+    private final int[] money;
+    private final int[] distanceLeftToTravel;
+    private final int[] ownerByCell;
+    private final byte[] membershipLevelByCell;
+
+    private int bankMoneyValue;
+    private int playerWithCurrentTurn;
+    private int playersStillTravelling;
+    private boolean finished;
+
+    public CompactGameState(CompiledBoard board, int numberOfPlayers, int fixedAmountForPlayer,
+                            int initialAmountOfBank, int roundsToPlay) {
+        this.board = board;
+        this.boardLength = board.getBoardLength();
+        this.numberOfPlayers = numberOfPlayers;
+        this.positions = new int[numberOfPlayers];
+        this.money = new int[numberOfPlayers];
+        this.distanceLeftToTravel = new int[numberOfPlayers];
+        this.ownerByCell = new int[boardLength];
+        this.membershipLevelByCell = new byte[boardLength];
+        this.bankMoneyValue = initialAmountOfBank;
+        this.playersStillTravelling = numberOfPlayers;
+
+        Arrays.fill(money, fixedAmountForPlayer);
+        Arrays.fill(distanceLeftToTravel, boardLength * roundsToPlay);
+        Arrays.fill(ownerByCell, NO_OWNER);
+    }
+
+    public void makeMove(Dice dice) {
+        makeMove(dice.rollTheDice());
+    }
+
+    /**
+     * Moves the player with the current turn by the dice value and applies the rule of the cell they land on.
+     *
+     * @param diceValue value rolled by the player with the current turn.
+     */
+    public void makeMove(int diceValue) {
+        if (finished)
+            throw new GameIsNotStartedException();
+
+        int player = playerWithCurrentTurn;
+        int position = (positions[player] + diceValue) % boardLength;
+        positions[player] = position;
+        updateDistanceLeftToTravel(player, diceValue);
+        applyRule(player, position);
+
+        if (playersStillTravelling == 0)
+            finished = true;
+        else
+            playerWithCurrentTurn = (player + 1) % numberOfPlayers;
+    }
+
+    private void updateDistanceLeftToTravel(int player, int amount) {
+        int distance = distanceLeftToTravel[player];
+        if (distance == TRAVEL_COMPLETED)
+            return;
+        distance -= amount;
+        if (distance <= 0) {
+            distance = TRAVEL_COMPLETED;
+            playersStillTravelling--;
+        }
+        distanceLeftToTravel[player] = distance;
+    }
+
+    private void applyRule(int player, int position) {
+        int amount;
+        switch (board.getOpcode(position)) {
+            case CompiledBoard.PAY_TO_BANK:
+                amount = board.getOperand(position);
+                bankMoneyValue += amount;
+                money[player] -= amount;
+                break;
+            case CompiledBoard.BANK_REWARD:
+                amount = board.getOperand(position);
+                money[player] += amount;
+                bankMoneyValue -= amount;
+                break;
+            case CompiledBoard.RENTABLE:
+                int owner = ownerByCell[position];
+                if (owner == NO_OWNER || owner == player)
+                    break;
+                amount = board.getRent(position, membershipLevelByCell[position]);
+                money[owner] += amount;
+                money[player] -= amount;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Buys the cell the player is standing on, or upgrades its membership if they already own it.
+     *
+     * @param player seat of the buying player.
+     * @throws CannotPurchaseThisAsset for the same reasons the board refuses a purchase.
+     */
+    public void purchaseCurrentCellAsset(int player) {
+        int position = positions[player];
+        if (board.getOpcode(position) != CompiledBoard.RENTABLE)
+            throw new CannotPurchaseThisAsset("Not Purchasable cell asset.");
+        if (!isPurchasable(player, position))
+            throw new CannotPurchaseThisAsset("Purchase/Upgrade not allowed.");
+
+        int netCost = getPurchaseCost(position);
+        if (money[player] < netCost)
+            throw new CannotPurchaseThisAsset("Insufficient Amount!");
+
+        money[player] -= netCost;
+        bankMoneyValue += netCost;
+        if (ownerByCell[position] == NO_OWNER) {
+            ownerByCell[position] = player;
+            membershipLevelByCell[position] = 0;
+        } else {
+            membershipLevelByCell[position]++;
+        }
+    }
+
+    /**
+     * @return true if the player could buy or upgrade the cell they are standing on right now.
+     */
+    public boolean canPurchaseCurrentCellAsset(int player) {
+        int position = positions[player];
+        return board.getOpcode(position) == CompiledBoard.RENTABLE
+                && isPurchasable(player, position)
+                && money[player] >= getPurchaseCost(position);
+    }
+
+    private boolean isPurchasable(int player, int position) {
+        int owner = ownerByCell[position];
+        if (owner == NO_OWNER)
+            return true;
+        return owner == player && membershipLevelByCell[position] + 1 < board.getMembershipLevels(position);
+    }
+
+    /**
+     * @return cost of buying an unowned cell, or of the next upgrade of an owned one.
+     */
+    public int getPurchaseCost(int position) {
+        if (ownerByCell[position] == NO_OWNER)
+            return board.getCost(position, 0);
+        int level = membershipLevelByCell[position];
+        return board.getCost(position, level + 1) - board.getCost(position, level);
+    }
+
+    public int getTotalAssetValue(int player) {
+        int total = 0;
+        for (int position = 0; position < boardLength; position++) {
+            if (ownerByCell[position] == player)
+                total += board.getCost(position, membershipLevelByCell[position]);
+        }
+        return total;
+    }
+
+    public CompiledBoard getBoard() {
+        return board;
+    }
+
+    public int getNumberOfPlayers() {
+        return numberOfPlayers;
+    }
+
+    public int getPlayerWithCurrentTurn() {
+        return playerWithCurrentTurn;
+    }
+
+    public int getPosition(int player) {
+        return positions[player];
+    }
+
+    public int getMoneyValue(int player) {
+        return money[player];
+    }
+
+    public int getOwner(int position) {
+        return ownerByCell[position];
+    }
+
+    public int getMembershipLevel(int position) {
+        return membershipLevelByCell[position];
+    }
+
+    public int getBankMoneyValue() {
+        return bankMoneyValue;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+}
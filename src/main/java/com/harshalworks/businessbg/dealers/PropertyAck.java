@@ -29,10 +29,19 @@ public class PropertyAck {
 
     private final String propertyId;
     private final int propertyValue;
+    private final int cellId;
 
     public PropertyAck(final String propertyId, final int propertyValue) {
+        this(propertyId, propertyValue, -1);
+    }
+
+    /**
+     * @param cellId position on the board of the property, lets owners index it without the string id.
+     */
+    public PropertyAck(final String propertyId, final int propertyValue, final int cellId) {
         this.propertyValue = propertyValue;
         this.propertyId = propertyId;
+        this.cellId = cellId;
     }
 
     public String getPropertyId() {
@@ -43,6 +52,13 @@ public class PropertyAck {
         return propertyValue;
     }
 
+    /**
+     * @return position on the board of the property, -1 if not known.
+     */
+    public int getCellId() {
+        return cellId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.dice;
+
+/**
+ * Dice rolling any {@link RollDistribution}, ex: the sum of N dice of M sides or a weighted dice,
+ * with one draw per roll whatever the number of dice, using Vose's alias method.
+ *
+ * Every roll picks one column of the alias table and tosses one biased coin between the column's own value
+ * and its alias, both from the same 64 bit SplitMix64 output. The distribution is kept exactly as given and
+ * is sampled to within 2<sup>-32</sup> of it.
+ */
+public class AliasDice implements Dice {
+
+    private final RollDistribution distribution;
+    private final int minRoll;
+    private final int columns;
+    private final long[] thresholds;
+    private final int[] aliases;
+    private long state;
+
+    public AliasDice(RollDistribution distribution, long seed) {
+        this.distribution = distribution;
+        this.minRoll = distribution.getMinRoll();
+        this.columns = distribution.getMaxRoll() - minRoll + 1;
+        this.thresholds = new long[columns];
+        this.aliases = new int[columns];
+        this.state = seed;
+        buildAliasTable();
+    }
+
+    /**
+     * @return dice rolling the sum of that many fair dice of that many sides, ex: {@code sumOf(2, 6, seed)}.
+     */
+    public static AliasDice sumOf(int dice, int sides, long seed) {
+        return new AliasDice(RollDistribution.sumOf(dice, sides), seed);
+    }
+
+    /**
+     * @param weights relative weight of every roll, indexed by the rolled value.
+     */
+    public static AliasDice weighted(double[] weights, long seed) {
+        return new AliasDice(RollDistribution.of(weights), seed);
+    }
+
+    private void buildAliasTable() {
+        double[] scaled = new double[columns];
+        int[] small = new int[columns];
+        int[] large = new int[columns];
+        int smallCount = 0, largeCount = 0;
+        for (int column = 0; column < columns; column++) {
+            scaled[column] = distribution.getProbability(minRoll + column) * columns;
+            if (scaled[column] < 1)
+                small[smallCount++] = column;
+            else
+                large[largeCount++] = column;
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int lessLikely = small[--smallCount];
+            int moreLikely = large[--largeCount];
+            setColumn(lessLikely, scaled[lessLikely], moreLikely);
+            scaled[moreLikely] = scaled[moreLikely] + scaled[lessLikely] - 1;
+            if (scaled[moreLikely] < 1)
+                small[smallCount++] = moreLikely;
+            else
+                large[largeCount++] = moreLikely;
+        }
+        // whatever is left is 1 but for rounding errors.
+        while (largeCount > 0)
+            setColumn(large[--largeCount], 1, 0);
+        while (smallCount > 0)
+            setColumn(small[--smallCount], 1, 0);
+    }
+
+    /**
+     * @param keepProbability probability of rolling the column's own value rather than its alias.
+     */
+    private void setColumn(int column, double keepProbability, int alias) {
+        // compared with 32 random bits, so 1 << 32 keeps the column's value every time.
+        thresholds[column] = Math.min(Math.round(keepProbability * (1L << 32)), 1L << 32);
+        aliases[column] = alias;
+    }
+
+    /**
+     * @return exact distribution of the rolls of this dice.
+     */
+    public RollDistribution getDistribution() {
+        return distribution;
+    }
+
+    @Override
+    public int rollTheDice() {
+        long output = SplittableDice.mix64(state += SplittableDice.GOLDEN_GAMMA);
+        int column = (int) (((output >>> 32) * columns) >>> 32);
+        boolean keep = (output & 0xFFFFFFFFL) < thresholds[column];
+        return minRoll + (keep ? column : aliases[column]);
+    }
+
+    @Override
+    public void fill(int[] rolls) {
+        for (int i = 0; i < rolls.length; i++) {
+            rolls[i] = rollTheDice();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.dice;
+
+/**
+ * Dice that hands out rolls from a buffer refilled in bulk, so a game pays for generating rolls once per
+ * few thousand moves instead of on every move. Any number of dice of any number of sides can be rolled
+ * together, a roll being the sum of their faces.
+ *
+ * Refills run over plain arrays without branches in the common path: the SplitMix64 outputs are computed
+ * from a counter ({@code seed + i * gamma}) instead of one after the other, and bounded with Lemire's multiply
+ * and shift, whose rare rejections are fixed up in a second pass. When all the outcomes of the dice fit in
+ * {@link #MAX_OUTCOME_TABLE_SIZE}, one draw picks an outcome and a table gives its sum, ex: one draw per 2d6 roll.
+ * The same seed always rolls the same values.
+ */
+public class BufferedDice implements Dice {
+
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+    public static final int MAX_OUTCOME_TABLE_SIZE = 1 << 12;
+
+    private final int diceRolled;
+    private final int sides;
+    private final int[] sumOfOutcome;
+    private final int[] rolls;
+    private final int[] draws;
+    private int nextRoll;
+    private long counter;
+
+    /**
+     * One six sided dice.
+     */
+    public BufferedDice(long seed) {
+        this(seed, 1, StandardSixSidedDice.DICE_SIDES);
+    }
+
+    public BufferedDice(long seed, int diceRolled, int sides) {
+        this(seed, diceRolled, sides, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param diceRolled dice rolled together, a roll is the sum of their faces.
+     * @param sides      sides of every dice.
+     * @param bufferSize rolls generated per refill.
+     */
+    public BufferedDice(long seed, int diceRolled, int sides, int bufferSize) {
+        if (diceRolled <= 0 || sides <= 0 || bufferSize <= 0)
+            throw new IllegalArgumentException("Dice, sides and buffer size must be positive.");
+        if ((long) diceRolled * sides > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Sum of the dice doesn't fit an int.");
+        this.diceRolled = diceRolled;
+        this.sides = sides;
+        this.sumOfOutcome = outcomeTable(diceRolled, sides);
+        this.rolls = new int[bufferSize];
+        this.draws = new int[bufferSize];
+        this.nextRoll = bufferSize;
+        this.counter = seed;
+    }
+
+    /**
+     * @return sum of the faces of every outcome of the dice, or null if there are too many outcomes.
+     */
+    private static int[] outcomeTable(int diceRolled, int sides) {
+        long outcomes = 1;
+        for (int dice = 0; dice < diceRolled; dice++) {
+            outcomes *= sides;
+            if (outcomes > MAX_OUTCOME_TABLE_SIZE)
+                return null;
+        }
+        int[] sums = new int[(int) outcomes];
+        for (int outcome = 0; outcome < sums.length; outcome++) {
+            int sum = 0;
+            for (int rest = outcome, dice = 0; dice < diceRolled; dice++, rest /= sides) {
+                sum += 1 + rest % sides;
+            }
+            sums[outcome] = sum;
+        }
+        return sums;
+    }
+
+    public int getDiceRolled() {
+        return diceRolled;
+    }
+
+    public int getSides() {
+        return sides;
+    }
+
+    @Override
+    public int rollTheDice() {
+        if (nextRoll == rolls.length)
+            refill();
+        return rolls[nextRoll++];
+    }
+
+    @Override
+    public void fill(int[] rollsToFill) {
+        int filled = 0;
+        while (filled < rollsToFill.length) {
+            if (nextRoll == rolls.length)
+                refill();
+            int count = Math.min(rolls.length - nextRoll, rollsToFill.length - filled);
+            System.arraycopy(rolls, nextRoll, rollsToFill, filled, count);
+            nextRoll += count;
+            filled += count;
+        }
+    }
+
+    private void refill() {
+        if (sumOfOutcome != null) {
+            drawBounded(sumOfOutcome.length);
+            for (int i = 0; i < rolls.length; i++) {
+                rolls[i] = sumOfOutcome[draws[i]];
+            }
+        } else {
+            drawBounded(sides);
+            for (int i = 0; i < rolls.length; i++) {
+                rolls[i] = 1 + draws[i];
+            }
+            for (int dice = 1; dice < diceRolled; dice++) {
+                drawBounded(sides);
+                for (int i = 0; i < rolls.length; i++) {
+                    rolls[i] += 1 + draws[i];
+                }
+            }
+        }
+        nextRoll = 0;
+    }
+
+    /**
+     * Fills the draws with uniform values in [0, bound).
+     */
+    private void drawBounded(int bound) {
+        int[] values = draws;
+        int length = values.length;
+        long base = counter;
+        long bits = base;
+        int threshold = Integer.remainderUnsigned(-bound, bound);
+        int biasedBelow = threshold + Integer.MIN_VALUE;
+        boolean rejected = false;
+        // two 32 bit draws out of every 64 bit output.
+        for (int i = 0; i < length; i += 2) {
+            bits += SplittableDice.GOLDEN_GAMMA;
+            long output = SplittableDice.mix64(bits);
+            long low = (output & 0xFFFFFFFFL) * bound;
+            long high = (output >>> 32) * bound;
+            rejected |= ((int) low + Integer.MIN_VALUE) < biasedBelow | ((int) high + Integer.MIN_VALUE) < biasedBelow;
+            values[i] = (int) (low >>> 32);
+            if (i + 1 < length)
+                values[i + 1] = (int) (high >>> 32);
+        }
+        counter = bits;
+        if (rejected)
+            redrawRejected(bound, threshold, base);
+    }
+
+    /**
+     * Second pass over the raw draws, only needed for the few draws that would bias the rolls.
+     */
+    private void redrawRejected(int bound, int threshold, long base) {
+        for (int i = 0; i < draws.length; i++) {
+            long output = SplittableDice.mix64(base + (i / 2 + 1) * SplittableDice.GOLDEN_GAMMA);
+            long raw = (i & 1) == 0 ? output & 0xFFFFFFFFL : output >>> 32;
+            long product = raw * bound;
+            while (Integer.compareUnsigned((int) product, threshold) < 0) {
+                counter += SplittableDice.GOLDEN_GAMMA;
+                product = (SplittableDice.mix64(counter) >>> 32) * bound;
+            }
+            draws[i] = (int) (product >>> 32);
+        }
+    }
+}
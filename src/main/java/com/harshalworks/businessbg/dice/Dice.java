@@ -27,4 +27,13 @@ public interface Dice {
 
     int rollTheDice();
 
+    /**
+     * Rolls the dice once for every element of the array, ex: to roll ahead for many moves at once.
+     */
+    default void fill(int[] rolls) {
+        for (int i = 0; i < rolls.length; i++) {
+            rolls[i] = rollTheDice();
+        }
+    }
+
 }
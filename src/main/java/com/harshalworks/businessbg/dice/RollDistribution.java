@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.dice;
+
+import java.util.Arrays;
+
+/**
+ * Probability of every value a dice can roll, used to analyse boards without rolling any dice.
+ * Rolls are at least 1, a dice that could roll 0 would leave players standing still.
+ */
+public final class RollDistribution {
+
+    private final double[] probabilities;
+    private final int minRoll;
+
+    private RollDistribution(double[] probabilities) {
+        this.probabilities = probabilities;
+        int min = 1;
+        while (probabilities[min] == 0)
+            min++;
+        this.minRoll = min;
+    }
+
+    /**
+     * @return distribution of a fair dice with faces 1 to sides.
+     */
+    public static RollDistribution uniform(int sides) {
+        if (sides <= 0)
+            throw new IllegalArgumentException("A dice needs at least one side: " + sides);
+        double[] weights = new double[sides + 1];
+        Arrays.fill(weights, 1, sides + 1, 1);
+        return of(weights);
+    }
+
+    /**
+     * @return distribution of the sum of that many fair dice of that many sides, ex: 2d6.
+     */
+    public static RollDistribution sumOf(int dice, int sides) {
+        if (dice <= 0)
+            throw new IllegalArgumentException("At least one dice has to be rolled: " + dice);
+        RollDistribution one = uniform(sides);
+        RollDistribution sum = one;
+        for (int rolled = 1; rolled < dice; rolled++) {
+            sum = sum.plus(one);
+        }
+        return sum;
+    }
+
+    /**
+     * @return distribution of {@link StandardSixSidedDice}.
+     */
+    public static RollDistribution sixSided() {
+        return uniform(StandardSixSidedDice.DICE_SIDES);
+    }
+
+    /**
+     * @param weights relative weight of every roll, indexed by the rolled value. The weight of 0 must be 0.
+     */
+    public static RollDistribution of(double[] weights) {
+        double total = 0;
+        for (int roll = 0; roll < weights.length; roll++) {
+            if (weights[roll] < 0 || Double.isNaN(weights[roll]) || (roll == 0 && weights[roll] != 0))
+                throw new IllegalArgumentException("Invalid weight " + weights[roll] + " of roll " + roll);
+            total += weights[roll];
+        }
+        if (!(total > 0) || Double.isInfinite(total))
+            throw new IllegalArgumentException("Weights must add up to a positive number.");
+        int maxRoll = weights.length - 1;
+        while (weights[maxRoll] == 0)
+            maxRoll--;
+        double[] probabilities = new double[maxRoll + 1];
+        for (int roll = 1; roll <= maxRoll; roll++) {
+            probabilities[roll] = weights[roll] / total;
+        }
+        return new RollDistribution(probabilities);
+    }
+
+    /**
+     * @return distribution of the sum of a roll of this dice and a roll of the other one.
+     */
+    public RollDistribution plus(RollDistribution other) {
+        double[] sum = new double[getMaxRoll() + other.getMaxRoll() + 1];
+        for (int roll = minRoll; roll <= getMaxRoll(); roll++) {
+            for (int otherRoll = other.minRoll; otherRoll <= other.getMaxRoll(); otherRoll++) {
+                sum[roll + otherRoll] += probabilities[roll] * other.probabilities[otherRoll];
+            }
+        }
+        return of(sum);
+    }
+
+    public int getMinRoll() {
+        return minRoll;
+    }
+
+    public int getMaxRoll() {
+        return probabilities.length - 1;
+    }
+
+    /**
+     * @return probability of rolling this value, 0 for values the dice can't roll.
+     */
+    public double getProbability(int roll) {
+        return roll < 0 || roll >= probabilities.length ? 0 : probabilities[roll];
+    }
+
+    public double getMean() {
+        double mean = 0;
+        for (int roll = minRoll; roll < probabilities.length; roll++) {
+            mean += roll * probabilities[roll];
+        }
+        return mean;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.dice;
+
+/**
+ * Dice rolling from its own SplitMix64 stream, so games never share a generator.
+ *
+ * The stream of a game is derived from a master seed and the game's index alone ({@link #forGame(long, long)}),
+ * so a run of many games rolls exactly the same values whichever thread plays which game, and any single game
+ * of the run can be replayed on its own. Rolls are unbiased, drawn with Lemire's multiply and shift method.
+ */
+public class SplittableDice implements Dice {
+
+    static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int sides;
+    private long state;
+
+    /**
+     * Six sided dice.
+     */
+    public SplittableDice(long seed) {
+        this(seed, StandardSixSidedDice.DICE_SIDES);
+    }
+
+    public SplittableDice(long seed, int sides) {
+        if (sides <= 0)
+            throw new IllegalArgumentException("A dice needs at least one side: " + sides);
+        this.state = seed;
+        this.sides = sides;
+    }
+
+    /**
+     * Six sided dice of one game in a run.
+     */
+    public static SplittableDice forGame(long masterSeed, long gameIndex) {
+        return forGame(masterSeed, gameIndex, StandardSixSidedDice.DICE_SIDES);
+    }
+
+    /**
+     * @param masterSeed seed of the whole run.
+     * @param gameIndex  number of the game in the run.
+     * @return dice with a stream independent of the streams of the other games of the run.
+     */
+    public static SplittableDice forGame(long masterSeed, long gameIndex, int sides) {
+        return new SplittableDice(mix64(mix64(masterSeed) + mix64(gameIndex * GOLDEN_GAMMA + GOLDEN_GAMMA)), sides);
+    }
+
+    /**
+     * @return new dice with a stream independent of this one, this dice's stream moves ahead by one value.
+     */
+    public SplittableDice split() {
+        return new SplittableDice(mix64(nextLong()), sides);
+    }
+
+    public int getSides() {
+        return sides;
+    }
+
+    @Override
+    public int rollTheDice() {
+        return 1 + nextBounded(sides);
+    }
+
+    @Override
+    public void fill(int[] rolls) {
+        int bound = sides;
+        for (int i = 0; i < rolls.length; i++) {
+            rolls[i] = 1 + nextBounded(bound);
+        }
+    }
+
+    private int nextBounded(int bound) {
+        long product = (nextInt() & 0xFFFFFFFFL) * bound;
+        int low = (int) product;
+        if (Integer.compareUnsigned(low, bound) < 0) {
+            int threshold = Integer.remainderUnsigned(-bound, bound);
+            while (Integer.compareUnsigned(low, threshold) < 0) {
+                product = (nextInt() & 0xFFFFFFFFL) * bound;
+                low = (int) product;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    private int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    private long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    /**
+     * SplitMix64 finalizer, shared by the dice built on SplitMix64 streams.
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
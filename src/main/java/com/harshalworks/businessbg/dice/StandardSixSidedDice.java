@@ -30,8 +30,22 @@ public class StandardSixSidedDice implements Dice{
     private static final Random RANDOM_GENERATOR = new Random();
     public static final int DICE_SIDES = 6;
 
+    private final Random randomGenerator;
+
+    public StandardSixSidedDice() {
+        this.randomGenerator = RANDOM_GENERATOR;
+    }
+
+    /**
+     * Dice with its own generator, rolls the same sequence every time for the same seed.
+     * @param seed seed for this dice's random generator.
+     */
+    public StandardSixSidedDice(long seed) {
+        this.randomGenerator = new Random(seed);
+    }
+
     @Override
     public int rollTheDice() {
-        return 1 + RANDOM_GENERATOR.nextInt(DICE_SIDES);
+        return 1 + randomGenerator.nextInt(DICE_SIDES);
     }
 }
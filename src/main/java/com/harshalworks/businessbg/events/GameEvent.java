@@ -25,14 +25,49 @@ package com.harshalworks.businessbg.events;
 
 public class GameEvent {
 
+    public static final String PLAYER_JOINED = "PLAYER_JOINED";
+    public static final String GAME_STARTED = "GAME_STARTED";
+    public static final String DICE_ROLLED = "DICE_ROLLED";
+    public static final String TURN_CHANGED = "TURN_CHANGED";
+    public static final String PURCHASED = "PURCHASED";
+    public static final String FINISHED = "FINISHED";
+
     private String type;
     private String eventMessage;
+    private boolean detailed;
+    private String playerName;
+    private int value;
 
     public GameEvent(String type, String eventMessage) {
         this.eventMessage = eventMessage;
         this.type = type;
     }
 
+    /**
+     * Event which also carries its details in structured form, so they don't need to be parsed from the message.
+     *
+     * @param playerName player the event is about, if any.
+     * @param value      dice value for DICE_ROLLED, cell position for PURCHASED.
+     */
+    public GameEvent(String type, String eventMessage, String playerName, int value) {
+        this(type, eventMessage);
+        this.detailed = true;
+        this.playerName = playerName;
+        this.value = value;
+    }
+
+    public boolean isDetailed() {
+        return detailed;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
     public String getEventMessage() {
         return eventMessage;
     }
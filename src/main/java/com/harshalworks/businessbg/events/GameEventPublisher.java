@@ -28,4 +28,19 @@ public interface GameEventPublisher {
     void publishEvent(GameEvent event);
 
     void addSubscriber(Viewer viewer);
+
+    /**
+     * Closes the publisher if it is {@link AutoCloseable}, for publishers wrapping or owning others.
+     */
+    static void closeIfCloseable(GameEventPublisher publisher) {
+        if (!(publisher instanceof AutoCloseable))
+            return;
+        try {
+            ((AutoCloseable) publisher).close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.events;
+
+import com.harshalworks.businessbg.management.EngineStats;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes events through a preallocated ring buffer, viewers are notified in batches on consumer threads
+ * so a slow viewer doesn't hold up the game.
+ * <p>
+ * Single producer: {@link #publishEvent(GameEvent)} must always be called from the same thread (the game's).
+ * Viewers are spread over the consumer threads, each viewer sees the events in publishing order.
+ * The publisher only blocks when the slowest consumer is a whole buffer behind.
+ * Call {@link #close()} to deliver the remaining events and stop the consumer threads, events can't be
+ * published anymore afterwards. The events are counted in the {@link EngineStats} by the first consumer,
+ * a batch at a time, so publishing stays a sequence claim and a slot write.
+ */
+public class RingBufferGameEventPublisher implements GameEventPublisher, AutoCloseable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final GameEvent[] slots;
+    private final int mask;
+    private final Sequence cursor;
+    private final Consumer[] consumers;
+    private final WaitStrategy waitStrategy;
+    private final AtomicLong failedNotifications;
+    private volatile boolean running;
+
+    // only touched by the publishing thread.
+    private long nextSequence;
+    private long cachedGatingSequence;
+
+    // guarded by this.
+    private int subscribersAdded;
+
+    public RingBufferGameEventPublisher() {
+        this(DEFAULT_BUFFER_SIZE, 1, WaitStrategy.park(100, TimeUnit.MICROSECONDS));
+    }
+
+    public RingBufferGameEventPublisher(int bufferSize, int consumerThreads, WaitStrategy waitStrategy) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1)
+            throw new IllegalArgumentException("Buffer size must be a power of two: " + bufferSize);
+        if (consumerThreads < 1)
+            throw new IllegalArgumentException("At least one consumer thread is needed: " + consumerThreads);
+        this.slots = new GameEvent[bufferSize];
+        this.mask = bufferSize - 1;
+        this.cursor = new Sequence(-1);
+        this.waitStrategy = waitStrategy;
+        this.failedNotifications = new AtomicLong();
+        this.running = true;
+        this.nextSequence = 0;
+        this.cachedGatingSequence = -1;
+        this.consumers = new Consumer[consumerThreads];
+        for (int i = 0; i < consumerThreads; i++) {
+            consumers[i] = new Consumer("game-event-consumer-" + i, i == 0);
+        }
+        for (Consumer consumer : consumers) {
+            consumer.thread.start();
+        }
+        EngineStats.get().publisherCreated();
+    }
+
+    /**
+     * @throws IllegalStateException if the publisher is closed.
+     */
+    @Override
+    public void publishEvent(GameEvent event) {
+        if (!running)
+            throw new IllegalStateException("Publisher is closed, the event can't be delivered.");
+        long sequence = nextSequence++;
+        if (sequence - slots.length > cachedGatingSequence)
+            waitForFreeSlot(sequence);
+        slots[(int) sequence & mask] = event;
+        cursor.lazySet(sequence);
+    }
+
+    private void waitForFreeSlot(long sequence) {
+        int idleCount = 0;
+        while (true) {
+            cachedGatingSequence = slowestConsumerSequence();
+            if (sequence - slots.length <= cachedGatingSequence)
+                return;
+            if (!running)
+                throw new IllegalStateException("Publisher is closed, the event can't be delivered.");
+            waitStrategy.idle(++idleCount);
+        }
+    }
+
+    private long slowestConsumerSequence() {
+        long slowest = Long.MAX_VALUE;
+        for (Consumer consumer : consumers) {
+            slowest = Math.min(slowest, consumer.sequence.get());
+        }
+        return slowest;
+    }
+
+    /**
+     * Viewers are assigned round robin to the consumer threads.
+     * A viewer added while events are in flight may also receive some published just before it subscribed.
+     */
+    @Override
+    public synchronized void addSubscriber(Viewer viewer) {
+        Consumer consumer = consumers[subscribersAdded++ % consumers.length];
+        Viewer[] viewers = Arrays.copyOf(consumer.viewers, consumer.viewers.length + 1);
+        viewers[viewers.length - 1] = viewer;
+        consumer.viewers = viewers;
+        if (running)
+            EngineStats.get().viewerAdded();
+    }
+
+    /**
+     * @return number of times a viewer threw, even an {@link Error}, while being notified,
+     * such events are skipped for that viewer only.
+     */
+    public long getFailedNotifications() {
+        return failedNotifications.get();
+    }
+
+    /**
+     * Delivers every event published so far, then stops the consumer threads.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (running)
+                EngineStats.get().publisherClosed(subscribersAdded);
+            running = false;
+        }
+        for (Consumer consumer : consumers) {
+            try {
+                consumer.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private final class Consumer implements Runnable {
+
+        private final Sequence sequence;
+        private final Thread thread;
+        private final boolean countsEvents;
+        private volatile Viewer[] viewers;
+
+        Consumer(String name, boolean countsEvents) {
+            this.sequence = new Sequence(-1);
+            this.countsEvents = countsEvents;
+            this.viewers = new Viewer[0];
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            int idleCount = 0;
+            while (true) {
+                // read before the cursor, so everything published before close() is still seen.
+                boolean stopping = !running;
+                long available = cursor.get();
+                if (available >= next) {
+                    deliver(next, available);
+                    sequence.lazySet(available);
+                    if (countsEvents)
+                        EngineStats.get().eventsPublished(available - next + 1);
+                    next = available + 1;
+                    idleCount = 0;
+                } else if (stopping) {
+                    return;
+                } else {
+                    waitStrategy.idle(++idleCount);
+                }
+            }
+        }
+
+        private void deliver(long from, long to) {
+            Viewer[] viewers = this.viewers;
+            for (long sequence = from; sequence <= to; sequence++) {
+                GameEvent event = slots[(int) sequence & mask];
+                for (Viewer viewer : viewers) {
+                    try {
+                        viewer.notify(event);
+                    } catch (Throwable e) {
+                        // even an Error, a dead consumer would block the publisher once the buffer is full.
+                        failedNotifications.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Padded so the producer's cursor and each consumer's sequence sit on their own cache lines.
+     */
+    @SuppressWarnings("unused")
+    private static final class Sequence extends AtomicLong {
+        private long p1, p2, p3, p4, p5, p6, p7;
+
+        Sequence(long initialValue) {
+            super(initialValue);
+        }
+    }
+}
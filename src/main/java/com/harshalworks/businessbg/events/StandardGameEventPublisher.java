@@ -23,25 +23,48 @@
 
 package com.harshalworks.businessbg.events;
 
+import com.harshalworks.businessbg.jfr.EventPublishedEvent;
+import com.harshalworks.businessbg.management.EngineStats;
+
 import java.util.ArrayList;
 import java.util.List;
 
-public class StandardGameEventPublisher implements GameEventPublisher {
+public class StandardGameEventPublisher implements GameEventPublisher, AutoCloseable {
 
     private List<Viewer> viewersList;
+    private boolean closed;
 
     public StandardGameEventPublisher() {
         this.viewersList = new ArrayList<>();
+        EngineStats.get().publisherCreated();
     }
 
     @Override
     public void publishEvent(GameEvent event) {
-        viewersList.forEach(viewer -> viewer.notify(event));
+        EventPublishedEvent published = EventPublishedEvent.beginIfEnabled();
+        EngineStats.get().eventPublished();
+        for (int i = 0; i < viewersList.size(); i++) {
+            viewersList.get(i).notify(event);
+        }
+        if (published != null)
+            published.commit(event.getType(), event.getPlayerName(), event.getValue(), viewersList.size());
     }
 
     @Override
     public void addSubscriber(Viewer viewer) {
         viewersList.add(viewer);
+        if (!closed)
+            EngineStats.get().viewerAdded();
     }
 
+    /**
+     * Takes this publisher and its viewers out of the {@link EngineStats}, events are still delivered afterwards.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        EngineStats.get().publisherClosed(viewersList.size());
+    }
 }
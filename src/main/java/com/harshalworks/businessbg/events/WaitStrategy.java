@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.events;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * What a consumer thread of the {@link RingBufferGameEventPublisher} does while no new events are published.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Lowest latency, keeps a core fully busy.
+     */
+    WaitStrategy BUSY_SPIN = idleCount -> {
+    };
+
+    /**
+     * Spins for a while, then gives the core away to other threads.
+     */
+    WaitStrategy YIELD = idleCount -> {
+        if (idleCount > 100)
+            Thread.yield();
+    };
+
+    /**
+     * Sleeps between checks, the least CPU at the cost of up to {@code parkTime} delivery latency.
+     */
+    static WaitStrategy park(long parkTime, TimeUnit unit) {
+        long parkNanos = unit.toNanos(parkTime);
+        return idleCount -> LockSupport.parkNanos(parkNanos);
+    }
+
+    /**
+     * @param idleCount how many times in a row the consumer found nothing to deliver, starting at 1.
+     */
+    void idle(int idleCount);
+
+}
@@ -40,4 +40,10 @@ public interface ExceptionMessageConstants {
     String NOT_ENOUGH_PLAYERS = "NOT ENOUGH PLAYERS AVAILABLE TO START GAME";
 
     String GAME_HAS_FINISHED = "GAME IS ALREADY FINISHED.";
+
+    String CELL_CANNOT_BE_COMPILED = "CELL AT POSITION %d IS NOT A STANDARD CELL.";
+
+    String GAME_ID_ALREADY_HOSTED = "GAME %s IS ALREADY HOSTED.";
+
+    String GAME_IS_RETIRED = "GAME %s IS RETIRED.";
 }
\ No newline at end of file
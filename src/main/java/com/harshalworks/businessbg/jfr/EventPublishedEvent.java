@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A game event given to every viewer of a publisher.
+ */
+@Name("com.harshalworks.businessbg.EventPublished")
+@Label("Game Event Published")
+@Category("Business Board Game")
+@Threshold("1 ms")
+public final class EventPublishedEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(EventPublishedEvent.class);
+
+    @Label("Event Type")
+    private String eventType;
+
+    @Label("Player")
+    private String playerName;
+
+    @Label("Value")
+    @Description("Dice value or cell position of detailed events")
+    private int value;
+
+    @Label("Viewers")
+    private int viewers;
+
+    /**
+     * @return started event, or null without allocating when no recording has it enabled.
+     */
+    public static EventPublishedEvent beginIfEnabled() {
+        if (!TYPE.isEnabled())
+            return null;
+        EventPublishedEvent event = new EventPublishedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String eventType, String playerName, int value, int viewers) {
+        if (!shouldCommit())
+            return;
+        this.eventType = eventType;
+        this.playerName = playerName;
+        this.value = value;
+        this.viewers = viewers;
+        commit();
+    }
+}
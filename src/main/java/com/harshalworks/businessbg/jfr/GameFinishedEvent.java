@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.harshalworks.businessbg.GameFinished")
+@Label("Game Finished")
+@Category("Business Board Game")
+@StackTrace(false)
+public final class GameFinishedEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(GameFinishedEvent.class);
+
+    @Label("Game Id")
+    private String gameId;
+
+    @Label("Players")
+    @Description("Players still in the turn order")
+    private int players;
+
+    @Label("Bank Amount")
+    private int bankAmount;
+
+    public static void emit(String gameId, int players, int bankAmount) {
+        if (!TYPE.isEnabled())
+            return;
+        GameFinishedEvent event = new GameFinishedEvent();
+        if (!event.shouldCommit())
+            return;
+        event.gameId = gameId;
+        event.players = players;
+        event.bankAmount = bankAmount;
+        event.commit();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A move of a player, from the dice roll to the rule applied at the cell landed on.
+ */
+@Name("com.harshalworks.businessbg.MakeMove")
+@Label("Make Move")
+@Category("Business Board Game")
+@Threshold("1 ms")
+public final class MakeMoveEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(MakeMoveEvent.class);
+
+    @Label("Game Id")
+    private String gameId;
+
+    @Label("Player Id")
+    private int playerId;
+
+    @Label("Dice Value")
+    private int diceValue;
+
+    @Label("Position")
+    private int position;
+
+    /**
+     * @return started event, or null without allocating when no recording has it enabled.
+     */
+    public static MakeMoveEvent beginIfEnabled() {
+        if (!TYPE.isEnabled())
+            return null;
+        MakeMoveEvent event = new MakeMoveEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String gameId, int playerId, int diceValue, int position) {
+        if (!shouldCommit())
+            return;
+        this.gameId = gameId;
+        this.playerId = playerId;
+        this.diceValue = diceValue;
+        this.position = position;
+        commit();
+    }
+}
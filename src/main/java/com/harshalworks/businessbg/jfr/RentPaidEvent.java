@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.jfr;
+
+import com.harshalworks.businessbg.dealers.MarketAssistant;
+import jdk.jfr.*;
+
+/**
+ * Rent paid by a player landing on an owned cell, emitted by the board which knows the position.
+ * Emitted on most moves, so it is off by default.
+ */
+@Name("com.harshalworks.businessbg.RentPaid")
+@Label("Rent Paid")
+@Category("Business Board Game")
+@Enabled(false)
+@StackTrace(false)
+public final class RentPaidEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(RentPaidEvent.class);
+
+    @Label("Payer Id")
+    private int payerId;
+
+    @Label("Owner Id")
+    @Description("Player id of the owner, -1 if it is not a registered player")
+    private int ownerId;
+
+    @Label("Position")
+    @Description("Position of the cell on the board")
+    private int position;
+
+    @Label("Amount")
+    private int amount;
+
+    public static void emit(MarketAssistant payer, MarketAssistant owner, int position, int amount) {
+        if (!TYPE.isEnabled())
+            return;
+        RentPaidEvent event = new RentPaidEvent();
+        if (!event.shouldCommit())
+            return;
+        event.payerId = PlayerIds.of(payer);
+        event.ownerId = PlayerIds.of(owner);
+        event.position = position;
+        event.amount = amount;
+        event.commit();
+    }
+}
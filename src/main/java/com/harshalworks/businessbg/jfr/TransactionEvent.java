@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.jfr;
+
+import com.harshalworks.businessbg.dealers.MarketAssistant;
+import jdk.jfr.*;
+
+/**
+ * Purchase or upgrade of a cell asset on a board.
+ */
+@Name("com.harshalworks.businessbg.Transaction")
+@Label("Transaction")
+@Category("Business Board Game")
+@Threshold("1 ms")
+public final class TransactionEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TransactionEvent.class);
+
+    @Label("Buyer Id")
+    @Description("Player id of the buyer, -1 if it is not a registered player")
+    private int buyerId;
+
+    @Label("Position")
+    private int position;
+
+    @Label("Amount")
+    private int amount;
+
+    /**
+     * @return started event, or null without allocating when no recording has it enabled.
+     */
+    public static TransactionEvent beginIfEnabled() {
+        if (!TYPE.isEnabled())
+            return null;
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(MarketAssistant buyer, int position, int amount) {
+        if (!shouldCommit())
+            return;
+        this.buyerId = PlayerIds.of(buyer);
+        this.position = position;
+        this.amount = amount;
+        commit();
+    }
+}
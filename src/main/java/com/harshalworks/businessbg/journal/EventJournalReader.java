@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.journal;
+
+import com.harshalworks.businessbg.events.GameEvent;
+import com.harshalworks.businessbg.exceptions.CorruptedJournalException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads back a journal written by {@link EventJournalWriter}, segment by segment.
+ */
+public class EventJournalReader {
+
+    private final Path directory;
+
+    public EventJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    public void read(JournalVisitor visitor) {
+        Decoder decoder = new Decoder(visitor);
+        for (Path segmentPath : listSegments()) {
+            decoder.readSegment(segmentPath);
+        }
+    }
+
+    /**
+     * @return the journalled events with their messages rebuilt as the game published them.
+     */
+    public List<GameEvent> readEvents() {
+        List<GameEvent> events = new ArrayList<>();
+        read(new JournalVisitor() {
+            private final List<String> players = new ArrayList<>();
+
+            @Override
+            public void playerJoined(int player, String name) {
+                players.add(name);
+                events.add(new GameEvent(GameEvent.PLAYER_JOINED, name, name, 0));
+            }
+
+            @Override
+            public void gameStarted(String playersList) {
+                events.add(new GameEvent(GameEvent.GAME_STARTED, playersList));
+            }
+
+            @Override
+            public void diceRolled(int diceValue) {
+                events.add(new GameEvent(GameEvent.DICE_ROLLED, "" + diceValue, null, diceValue));
+            }
+
+            @Override
+            public void turnChanged(int player) {
+                String name = players.get(player);
+                events.add(new GameEvent(GameEvent.TURN_CHANGED, name, name, 0));
+            }
+
+            @Override
+            public void purchased(int player, int position) {
+                String name = players.get(player);
+                events.add(new GameEvent(GameEvent.PURCHASED, name + "-Cell-" + position, name, position));
+            }
+
+            @Override
+            public void finished(String scoreboard) {
+                events.add(new GameEvent(GameEvent.FINISHED, scoreboard));
+            }
+
+            @Override
+            public void otherEvent(String type, String message) {
+                events.add(new GameEvent(type, message));
+            }
+        });
+        return events;
+    }
+
+    private List<Path> listSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(JournalFormat::isSegment).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Decoder {
+
+        private final JournalVisitor visitor;
+        private int joinedPlayers;
+
+        Decoder(JournalVisitor visitor) {
+            this.visitor = visitor;
+        }
+
+        void readSegment(Path segmentPath) {
+            MappedByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            try {
+                if (segment.getInt() != JournalFormat.MAGIC || segment.get() != JournalFormat.VERSION)
+                    throw new CorruptedJournalException(segmentPath.getFileName() + " IS NOT A VERSION "
+                            + JournalFormat.VERSION + " SEGMENT.");
+                while (segment.hasRemaining() && readRecord(segment)) {
+                    // one record per iteration
+                }
+            } catch (BufferUnderflowException e) {
+                throw new CorruptedJournalException(segmentPath.getFileName() + " ENDS IN THE MIDDLE OF A RECORD.");
+            }
+        }
+
+        private boolean readRecord(MappedByteBuffer segment) {
+            byte code = segment.get();
+            switch (code) {
+                case JournalFormat.END_OF_SEGMENT:
+                    return false;
+                case JournalFormat.PLAYER_JOINED:
+                    visitor.playerJoined(joinedPlayers++, getString(segment));
+                    return true;
+                case JournalFormat.GAME_STARTED:
+                    visitor.gameStarted(getString(segment));
+                    return true;
+                case JournalFormat.DICE_ROLLED:
+                    visitor.diceRolled(JournalFormat.unzigzag(getVarint(segment)));
+                    return true;
+                case JournalFormat.TURN_CHANGED:
+                    visitor.turnChanged(getVarint(segment));
+                    return true;
+                case JournalFormat.PURCHASED:
+                    int player = getVarint(segment);
+                    visitor.purchased(player, getVarint(segment));
+                    return true;
+                case JournalFormat.FINISHED:
+                    visitor.finished(getString(segment));
+                    return true;
+                case JournalFormat.OTHER:
+                    String type = getString(segment);
+                    visitor.otherEvent(type, getString(segment));
+                    return true;
+                default:
+                    throw new CorruptedJournalException("UNKNOWN RECORD TYPE " + code + ".");
+            }
+        }
+    }
+
+    private static int getVarint(MappedByteBuffer segment) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = segment.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new CorruptedJournalException("VARINT IS LONGER THAN " + JournalFormat.MAX_VARINT_SIZE + " BYTES.");
+    }
+
+    private static String getString(MappedByteBuffer segment) {
+        int length = getVarint(segment) - 1;
+        if (length < 0)
+            return null;
+        byte[] bytes = new byte[length];
+        segment.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.journal;
+
+import com.harshalworks.businessbg.events.GameEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Appends game events to memory mapped journal segments, see {@link JournalFormat} for the layout.
+ * <p>
+ * A record is durable once the segment is forced, which happens every {@code recordsPerForce} records,
+ * when a segment is full and on {@link #sync()} and {@link #close()}. Not thread safe, one writer per journal
+ * directory and the directory must not contain a journal already.
+ */
+public class EventJournalWriter implements AutoCloseable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    public static final int DEFAULT_RECORDS_PER_FORCE = 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int recordsPerForce;
+    private final Map<String, Integer> playerNumbers;
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private int unforcedRecords;
+    private long recordsWritten;
+
+    public EventJournalWriter(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_RECORDS_PER_FORCE);
+    }
+
+    public EventJournalWriter(Path directory, int segmentSize, int recordsPerForce) {
+        if (segmentSize <= JournalFormat.HEADER_SIZE + 1 + 2 * JournalFormat.MAX_VARINT_SIZE)
+            throw new IllegalArgumentException("Segment size is too small: " + segmentSize);
+        if (recordsPerForce < 1)
+            throw new IllegalArgumentException("Records per force must be positive: " + recordsPerForce);
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.recordsPerForce = recordsPerForce;
+        this.playerNumbers = new HashMap<>();
+        this.segmentIndex = -1;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        openNextSegment();
+    }
+
+    public void append(GameEvent event) {
+        if (segment == null)
+            throw new IllegalStateException("Journal is closed.");
+        if (!event.isDetailed() || !appendDetailed(event))
+            appendOther(event.getType(), event.getEventMessage());
+        recordsWritten++;
+        if (++unforcedRecords >= recordsPerForce)
+            sync();
+    }
+
+    private boolean appendDetailed(GameEvent event) {
+        switch (event.getType()) {
+            case GameEvent.PLAYER_JOINED:
+                String name = event.getPlayerName();
+                if (playerNumbers.containsKey(name))
+                    return false;
+                appendString(JournalFormat.PLAYER_JOINED, name);
+                playerNumbers.put(name, playerNumbers.size());
+                return true;
+            case GameEvent.DICE_ROLLED:
+                ensureSpace(1 + JournalFormat.MAX_VARINT_SIZE);
+                segment.put(JournalFormat.DICE_ROLLED);
+                putVarint(JournalFormat.zigzag(event.getValue()));
+                return true;
+            case GameEvent.TURN_CHANGED:
+                Integer player = playerNumbers.get(event.getPlayerName());
+                if (player == null)
+                    return false;
+                ensureSpace(1 + JournalFormat.MAX_VARINT_SIZE);
+                segment.put(JournalFormat.TURN_CHANGED);
+                putVarint(player);
+                return true;
+            case GameEvent.PURCHASED:
+                Integer buyer = playerNumbers.get(event.getPlayerName());
+                if (buyer == null || event.getValue() < 0)
+                    return false;
+                ensureSpace(1 + 2 * JournalFormat.MAX_VARINT_SIZE);
+                segment.put(JournalFormat.PURCHASED);
+                putVarint(buyer);
+                putVarint(event.getValue());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void appendOther(String type, String message) {
+        switch (type) {
+            case GameEvent.GAME_STARTED:
+                appendString(JournalFormat.GAME_STARTED, message);
+                return;
+            case GameEvent.FINISHED:
+                appendString(JournalFormat.FINISHED, message);
+                return;
+            default:
+                byte[] typeBytes = encode(type);
+                byte[] messageBytes = encode(message);
+                ensureSpace(1 + encodedSize(typeBytes) + encodedSize(messageBytes));
+                segment.put(JournalFormat.OTHER);
+                putString(typeBytes);
+                putString(messageBytes);
+        }
+    }
+
+    private void appendString(byte code, String value) {
+        byte[] bytes = encode(value);
+        ensureSpace(1 + encodedSize(bytes));
+        segment.put(code);
+        putString(bytes);
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int encodedSize(byte[] bytes) {
+        return bytes == null ? 1 : JournalFormat.varintSize(bytes.length + 1) + bytes.length;
+    }
+
+    private void putString(byte[] bytes) {
+        if (bytes == null) {
+            putVarint(0);
+            return;
+        }
+        putVarint(bytes.length + 1);
+        segment.put(bytes);
+    }
+
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            segment.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        segment.put((byte) value);
+    }
+
+    private void ensureSpace(int recordSize) {
+        if (recordSize > segmentSize - JournalFormat.HEADER_SIZE)
+            throw new IllegalArgumentException("Record of " + recordSize + " bytes doesn't fit in a segment.");
+        if (segment.remaining() < recordSize) {
+            closeSegment();
+            openNextSegment();
+        }
+    }
+
+    private void openNextSegment() {
+        segmentIndex++;
+        Path path = JournalFormat.segmentPath(directory, segmentIndex);
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segment.putInt(JournalFormat.MAGIC);
+        segment.put(JournalFormat.VERSION);
+    }
+
+    private void closeSegment() {
+        segment.force();
+        unforcedRecords = 0;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Forces every record appended so far to the storage device.
+     */
+    public void sync() {
+        segment.force();
+        unforcedRecords = 0;
+    }
+
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    public int getSegmentCount() {
+        return segmentIndex + 1;
+    }
+
+    @Override
+    public void close() {
+        if (segment == null)
+            return;
+        closeSegment();
+        segment = null;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.journal;
+
+import java.nio.file.Path;
+
+/**
+ * Binary layout shared by the journal writer and reader.
+ * <p>
+ * A journal is a directory of fixed size segment files, each starting with {@link #MAGIC} and {@link #VERSION}
+ * followed by records: a one byte type code and its varint encoded payload. The unused tail of a segment is
+ * zero filled, so {@link #END_OF_SEGMENT} marks where its records stop.
+ * <p>
+ * Players are numbered in the order they joined, later records refer to them by that number.
+ * Strings are written as varint (length + 1) and UTF-8 bytes, 0 standing for null.
+ */
+final class JournalFormat {
+
+    static final int MAGIC = 0x42424A4C; // "BBJL"
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 5;
+
+    static final byte END_OF_SEGMENT = 0;
+    static final byte PLAYER_JOINED = 1;  // name
+    static final byte GAME_STARTED = 2;   // message
+    static final byte DICE_ROLLED = 3;    // zigzag dice value
+    static final byte TURN_CHANGED = 4;   // player
+    static final byte PURCHASED = 5;      // player, position
+    static final byte FINISHED = 6;       // message
+    static final byte OTHER = 7;          // type, message
+
+    static final int MAX_VARINT_SIZE = 5;
+
+    private static final String SEGMENT_FILE_FORMAT = "segment-%010d.journal";
+
+    private JournalFormat() {
+    }
+
+    static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format(SEGMENT_FILE_FORMAT, index));
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith("segment-") && name.endsWith(".journal");
+    }
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.journal;
+
+import com.harshalworks.businessbg.events.GameEvent;
+import com.harshalworks.businessbg.events.GameEventPublisher;
+import com.harshalworks.businessbg.events.Viewer;
+
+/**
+ * Records every published event in an event journal before passing it on to the viewers.
+ */
+public class JournalingGameEventPublisher implements GameEventPublisher, AutoCloseable {
+
+    private final GameEventPublisher gameEventPublisher;
+    private final EventJournalWriter journal;
+
+    public JournalingGameEventPublisher(GameEventPublisher gameEventPublisher, EventJournalWriter journal) {
+        this.gameEventPublisher = gameEventPublisher;
+        this.journal = journal;
+    }
+
+    @Override
+    public void publishEvent(GameEvent event) {
+        journal.append(event);
+        gameEventPublisher.publishEvent(event);
+    }
+
+    @Override
+    public void addSubscriber(Viewer viewer) {
+        gameEventPublisher.addSubscriber(viewer);
+    }
+
+    /**
+     * Forces and closes the journal, then closes the publisher it wraps if it can be.
+     */
+    @Override
+    public void close() {
+        journal.close();
+        GameEventPublisher.closeIfCloseable(gameEventPublisher);
+    }
+}
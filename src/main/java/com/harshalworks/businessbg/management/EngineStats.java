@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.management;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Engine wide counters, updated by the games, banks and publishers as they work and read by
+ * {@link EngineStatsMXBean} clients, so nothing scans the games. Every update is a single
+ * {@link LongAdder} add, which doesn't contend between the threads playing different games.
+ *
+ * Games are counted by their current state while a {@link com.harshalworks.businessbg.registry.GameRegistry}
+ * hosts them, banks while their game is counted and publishers until they are closed. Retiring a game
+ * ({@link com.harshalworks.businessbg.Game#retire()}) closes its own publisher, so games played outside of a
+ * registry, ex: by the simulator, leave nothing behind once retired.
+ */
+public final class EngineStats implements EngineStatsMXBean {
+
+    public static final String OBJECT_NAME = "com.harshalworks.businessbg:type=EngineStats";
+
+    private static final EngineStats INSTANCE = new EngineStats();
+    private static final int GAME_STATES = 3;
+
+    private final LongAdder[] gamesByState;
+    private final LongAdder games;
+    private final LongAdder players;
+    private final RateMeter moves;
+    private final RateMeter eventsPublished;
+    private final LongAdder publishers;
+    private final LongAdder viewers;
+    private final LongAdder banks;
+    private final LongAdder bankBalance;
+
+    private EngineStats() {
+        this.gamesByState = new LongAdder[GAME_STATES];
+        for (int state = 0; state < GAME_STATES; state++) {
+            gamesByState[state] = new LongAdder();
+        }
+        this.games = new LongAdder();
+        this.players = new LongAdder();
+        this.moves = new RateMeter();
+        this.eventsPublished = new RateMeter();
+        this.publishers = new LongAdder();
+        this.viewers = new LongAdder();
+        this.banks = new LongAdder();
+        this.bankBalance = new LongAdder();
+    }
+
+    public static EngineStats get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the stats on the platform MBean server, if they aren't yet.
+     *
+     * @return name the stats are registered under.
+     */
+    public static ObjectName registerPlatformMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name))
+                registerOnce(server, name);
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void registerOnce(MBeanServer server, ObjectName name) throws JMException {
+        try {
+            server.registerMBean(INSTANCE, name);
+        } catch (InstanceAlreadyExistsException e) {
+            // registered by another thread in between.
+        }
+    }
+
+    /**
+     * @param state waiting (0), running (1) or finished (2), as the game states.
+     */
+    public void gameCreated(int state) {
+        games.increment();
+        gamesByState[state].increment();
+    }
+
+    public void gameStateChanged(int fromState, int toState) {
+        if (fromState == toState)
+            return;
+        gamesByState[fromState].decrement();
+        gamesByState[toState].increment();
+    }
+
+    /**
+     * @param state    state of the game when it stops being counted.
+     * @param players  players registered in the game.
+     */
+    public void gameRemoved(int state, int players) {
+        games.decrement();
+        gamesByState[state].decrement();
+        this.players.add(-players);
+    }
+
+    public void playersRegistered(int count) {
+        players.add(count);
+    }
+
+    public void moveMade() {
+        moves.increment();
+    }
+
+    public void eventPublished() {
+        eventsPublished.increment();
+    }
+
+    /**
+     * Counts a batch of events at once, for publishers that count them off the publishing path.
+     */
+    public void eventsPublished(long count) {
+        eventsPublished.add(count);
+    }
+
+    public void publisherCreated() {
+        publishers.increment();
+    }
+
+    public void viewerAdded() {
+        viewers.increment();
+    }
+
+    public void bankCreated(int balance) {
+        banks.increment();
+        bankBalance.add(balance);
+    }
+
+    public void bankRemoved(int balance) {
+        banks.decrement();
+        bankBalance.add(-balance);
+    }
+
+    public void publisherClosed(int viewers) {
+        publishers.decrement();
+        this.viewers.add(-viewers);
+    }
+
+    public void bankBalanceChanged(long amount) {
+        bankBalance.add(amount);
+    }
+
+    @Override
+    public long getWaitingGames() {
+        return gamesByState[0].sum();
+    }
+
+    @Override
+    public long getRunningGames() {
+        return gamesByState[1].sum();
+    }
+
+    @Override
+    public long getFinishedGames() {
+        return gamesByState[2].sum();
+    }
+
+    @Override
+    public long getTotalMoves() {
+        return moves.getCount();
+    }
+
+    @Override
+    public double getMovesPerSecond() {
+        return moves.getRatePerSecond();
+    }
+
+    @Override
+    public long getTotalEventsPublished() {
+        return eventsPublished.getCount();
+    }
+
+    @Override
+    public double getEventsPublishedPerSecond() {
+        return eventsPublished.getRatePerSecond();
+    }
+
+    @Override
+    public long getPublishers() {
+        return publishers.sum();
+    }
+
+    @Override
+    public long getViewers() {
+        return viewers.sum();
+    }
+
+    @Override
+    public double getAverageViewersPerPublisher() {
+        return average(viewers.sum(), publishers.sum());
+    }
+
+    @Override
+    public long getBanks() {
+        return banks.sum();
+    }
+
+    @Override
+    public long getTotalBankBalance() {
+        return bankBalance.sum();
+    }
+
+    @Override
+    public double getAverageBankBalance() {
+        return average(bankBalance.sum(), banks.sum());
+    }
+
+    @Override
+    public double getAveragePlayersPerGame() {
+        return average(players.sum(), games.sum());
+    }
+
+    private static double average(long total, long count) {
+        return count == 0 ? 0 : (double) total / count;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.management;
+
+/**
+ * Live throughput and population of the games of this JVM, see {@link EngineStats} for what is counted. Registered as
+ * {@value EngineStats#OBJECT_NAME} on the platform MBean server.
+ */
+public interface EngineStatsMXBean {
+
+    long getWaitingGames();
+
+    long getRunningGames();
+
+    long getFinishedGames();
+
+    long getTotalMoves();
+
+    /**
+     * @return moves made per second, over the last second or more.
+     */
+    double getMovesPerSecond();
+
+    long getTotalEventsPublished();
+
+    /**
+     * @return events published per second, over the last second or more.
+     */
+    double getEventsPublishedPerSecond();
+
+    long getPublishers();
+
+    long getViewers();
+
+    double getAverageViewersPerPublisher();
+
+    long getBanks();
+
+    long getTotalBankBalance();
+
+    double getAverageBankBalance();
+
+    double getAveragePlayersPerGame();
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.management;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter with a per second rate, sampled when the rate is read so counting stays a single add.
+ */
+class RateMeter {
+
+    private static final long MIN_SAMPLE_NANOS = 1_000_000_000L;
+
+    private final LongAdder count = new LongAdder();
+    private long sampledAtNanos;
+    private long sampledCount;
+    private double rate;
+
+    RateMeter() {
+        this.sampledAtNanos = System.nanoTime();
+    }
+
+    void increment() {
+        count.increment();
+    }
+
+    void add(long amount) {
+        count.add(amount);
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return rate since the previous sample, which is only renewed once it is a second old,
+     * so many readers don't shorten the window.
+     */
+    synchronized double getRatePerSecond() {
+        long now = System.nanoTime();
+        long elapsed = now - sampledAtNanos;
+        if (elapsed >= MIN_SAMPLE_NANOS) {
+            long current = count.sum();
+            rate = (current - sampledCount) * 1e9 / elapsed;
+            sampledCount = current;
+            sampledAtNanos = now;
+        }
+        return rate;
+    }
+}
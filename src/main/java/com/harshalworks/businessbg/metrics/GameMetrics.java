@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.metrics;
+
+import com.harshalworks.businessbg.board.CompiledBoard;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of the game operations and of the rules per cell type, with counts of the published events
+ * and of the exceptions thrown by the operations. Recording is lock free, so one instance can be shared
+ * by all the games of a server. When disabled, the instrumented code only reads the enabled flag.
+ */
+public class GameMetrics {
+
+    public enum Operation {
+        REGISTER_PLAYER, START, MAKE_MOVE, PURCHASE, PUBLISH_EVENT
+    }
+
+    private static final int RULE_TYPES = CompiledBoard.CUSTOM + 1;
+
+    private volatile boolean enabled;
+    private final LatencyHistogram[] operationLatencies;
+    private final LatencyHistogram[] ruleLatencies;
+    private final ConcurrentMap<String, LongAdder> eventCounts;
+    private final ConcurrentMap<String, LongAdder> exceptionCounts;
+
+    public GameMetrics() {
+        this.enabled = true;
+        this.operationLatencies = newHistograms(Operation.values().length);
+        this.ruleLatencies = newHistograms(RULE_TYPES);
+        this.eventCounts = new ConcurrentHashMap<>();
+        this.exceptionCounts = new ConcurrentHashMap<>();
+    }
+
+    private static LatencyHistogram[] newHistograms(int count) {
+        LatencyHistogram[] histograms = new LatencyHistogram[count];
+        for (int i = 0; i < count; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void recordOperation(Operation operation, long nanos) {
+        operationLatencies[operation.ordinal()].record(nanos);
+    }
+
+    /**
+     * @param opcode type of the cell, one of the {@link CompiledBoard} opcodes.
+     */
+    public void recordRule(int opcode, long nanos) {
+        ruleLatencies[opcode].record(nanos);
+    }
+
+    public void recordEvent(String type) {
+        increment(eventCounts, type);
+    }
+
+    public void recordException(RuntimeException exception) {
+        increment(exceptionCounts, exception.getClass().getSimpleName());
+    }
+
+    private static void increment(ConcurrentMap<String, LongAdder> counts, String key) {
+        LongAdder count = counts.get(key);
+        if (count == null)
+            count = counts.computeIfAbsent(key, k -> new LongAdder());
+        count.increment();
+    }
+
+    public LatencyHistogram getLatency(Operation operation) {
+        return operationLatencies[operation.ordinal()];
+    }
+
+    /**
+     * @param opcode type of the cell, one of the {@link CompiledBoard} opcodes.
+     */
+    public LatencyHistogram getRuleLatency(int opcode) {
+        return ruleLatencies[opcode];
+    }
+
+    public long getEventCount(String type) {
+        return sumOf(eventCounts.get(type));
+    }
+
+    public long getExceptionCount(Class<? extends RuntimeException> exceptionType) {
+        return sumOf(exceptionCounts.get(exceptionType.getSimpleName()));
+    }
+
+    private static long sumOf(LongAdder count) {
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * @return count of every published event type, sorted by type.
+     */
+    public Map<String, Long> getEventCounts() {
+        return snapshotOf(eventCounts);
+    }
+
+    /**
+     * @return count of every exception thrown, by simple class name.
+     */
+    public Map<String, Long> getExceptionCounts() {
+        return snapshotOf(exceptionCounts);
+    }
+
+    private static Map<String, Long> snapshotOf(ConcurrentMap<String, LongAdder> counts) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((key, count) -> snapshot.put(key, count.sum()));
+        return snapshot;
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : operationLatencies) {
+            histogram.reset();
+        }
+        for (LatencyHistogram histogram : ruleLatencies) {
+            histogram.reset();
+        }
+        eventCounts.clear();
+        exceptionCounts.clear();
+    }
+}
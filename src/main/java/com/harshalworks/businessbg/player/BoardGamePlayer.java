@@ -34,13 +34,14 @@ public class BoardGamePlayer implements Player, MarketAssistant {
 
     private int moneyValue;
     private final String uniqueName;
+    private int playerId = -1;
     private int currentPosition;
-    private Set<PropertyAck> propertyOwned;
+    private final Portfolio propertyOwned;
 
     public BoardGamePlayer(final int moneyValue, final String uniqueName) {
         this.moneyValue = moneyValue;
         this.uniqueName = uniqueName;
-        propertyOwned = new HashSet<>();
+        propertyOwned = new Portfolio();
     }
 
     @Override
@@ -53,6 +54,17 @@ public class BoardGamePlayer implements Player, MarketAssistant {
         return uniqueName;
     }
 
+    /**
+     * @return dense id the game gave this player at registration, -1 before that.
+     */
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(int playerId) {
+        this.playerId = playerId;
+    }
+
     @Override
     public int getCurrentPosition() {
         return currentPosition;
@@ -60,7 +72,7 @@ public class BoardGamePlayer implements Player, MarketAssistant {
 
     @Override
     public int getTotalAssetValue() {
-        return propertyOwned.stream().mapToInt(PropertyAck::getPropertyValue).sum();
+        return propertyOwned.getTotalValue();
     }
 
     @Override
@@ -80,6 +92,10 @@ public class BoardGamePlayer implements Player, MarketAssistant {
         this.currentPosition = position;
     }
 
+    public void setMoneyValue(int moneyValue) {
+        this.moneyValue = moneyValue;
+    }
+
     @Override
     public void addMoney(int amount) {
         moneyValue += amount;
@@ -92,7 +108,7 @@ public class BoardGamePlayer implements Player, MarketAssistant {
 
     @Override
     public void addProperty(PropertyAck propertyDetails) {
-        propertyOwned.remove(propertyDetails);
+        // replaces the acknowledgement of an upgraded property in place.
         propertyOwned.add(propertyDetails);
     }
 
@@ -101,7 +117,25 @@ public class BoardGamePlayer implements Player, MarketAssistant {
         return moneyValue >= amount;
     }
 
+    /**
+     * @return rough estimate of the heap used by this player, its name and its property acknowledgements.
+     */
+    public long estimateRetainedBytes() {
+        long nameBytes = 40 + 2L * uniqueName.length();
+        return 32 + nameBytes + propertyOwned.estimateRetainedBytes();
+    }
+
+    /**
+     * @return copy of the acknowledgements of all the properties owned.
+     */
     public Set<PropertyAck> getPropertiesOwned() {
-        return propertyOwned;
+        return new HashSet<>(propertyOwned.getProperties());
+    }
+
+    /**
+     * @return value of the property this player owns on the cell, 0 if they don't own it.
+     */
+    public int getPropertyValue(int cellId) {
+        return propertyOwned.getValue(cellId);
     }
 }
@@ -34,4 +34,8 @@ public interface Player extends Spender {
     int getCurrentPosition();
 
     int getTotalAssetValue();
+
+    default int getNetWorth() {
+        return getMoneyValue() + getTotalAssetValue();
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.player;
+
+import com.harshalworks.businessbg.dealers.PropertyAck;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Property acknowledgements of one player with their total value kept up to date on every change.
+ *
+ * Acknowledgements carrying a cell id live in an open addressing table keyed by that id, so large boards
+ * with few properties owned stay small. The others are kept by property id.
+ */
+final class Portfolio {
+
+    private int[] cellIds;
+    private PropertyAck[] propertiesByCell;
+    private int cellsOwned;
+    private Map<String, PropertyAck> propertiesById;
+    private int totalValue;
+
+    Portfolio() {
+        this.cellIds = new int[8];
+        this.propertiesByCell = new PropertyAck[8];
+    }
+
+    /**
+     * Adds the property, or replaces the acknowledgement of a property already owned (after an upgrade).
+     */
+    void add(PropertyAck property) {
+        PropertyAck replaced = property.getCellId() >= 0 ? putByCell(property) : putById(property);
+        if (replaced != null)
+            totalValue -= replaced.getPropertyValue();
+        totalValue += property.getPropertyValue();
+    }
+
+    private PropertyAck putByCell(PropertyAck property) {
+        if (2 * (cellsOwned + 1) > cellIds.length)
+            resize();
+        int slot = findSlot(cellIds, propertiesByCell, property.getCellId());
+        PropertyAck replaced = propertiesByCell[slot];
+        if (replaced == null) {
+            cellIds[slot] = property.getCellId();
+            cellsOwned++;
+        }
+        propertiesByCell[slot] = property;
+        return replaced;
+    }
+
+    private PropertyAck putById(PropertyAck property) {
+        if (propertiesById == null)
+            propertiesById = new HashMap<>();
+        return propertiesById.put(property.getPropertyId(), property);
+    }
+
+    private static int findSlot(int[] cellIds, PropertyAck[] properties, int cellId) {
+        int mask = cellIds.length - 1;
+        int hash = cellId * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (properties[slot] != null && cellIds[slot] != cellId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldCellIds = cellIds;
+        PropertyAck[] oldProperties = propertiesByCell;
+        cellIds = new int[oldCellIds.length * 2];
+        propertiesByCell = new PropertyAck[oldCellIds.length * 2];
+        for (int i = 0; i < oldCellIds.length; i++) {
+            if (oldProperties[i] != null) {
+                int slot = findSlot(cellIds, propertiesByCell, oldCellIds[i]);
+                cellIds[slot] = oldCellIds[i];
+                propertiesByCell[slot] = oldProperties[i];
+            }
+        }
+    }
+
+    /**
+     * @return value of the property on this cell, 0 if it isn't owned.
+     */
+    int getValue(int cellId) {
+        if (cellId < 0)
+            return 0;
+        PropertyAck property = propertiesByCell[findSlot(cellIds, propertiesByCell, cellId)];
+        return property == null ? 0 : property.getPropertyValue();
+    }
+
+    int getTotalValue() {
+        return totalValue;
+    }
+
+    int size() {
+        return cellsOwned + (propertiesById == null ? 0 : propertiesById.size());
+    }
+
+    Collection<PropertyAck> getProperties() {
+        List<PropertyAck> properties = new ArrayList<>(size());
+        for (PropertyAck property : propertiesByCell) {
+            if (property != null)
+                properties.add(property);
+        }
+        if (propertiesById != null)
+            properties.addAll(propertiesById.values());
+        return properties;
+    }
+
+    long estimateRetainedBytes() {
+        long bytes = 32 + 2 * (16 + 4L * cellIds.length) + 24L * size();
+        if (propertiesById != null)
+            bytes += 64 + 32L * propertiesById.size();
+        return bytes;
+    }
+}
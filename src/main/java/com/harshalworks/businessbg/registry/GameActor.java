@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.registry;
+
+import com.harshalworks.businessbg.Game;
+import com.harshalworks.businessbg.player.Player;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Processes the commands for one hosted game sequentially from a mailbox, on whichever thread of the
+ * executor is free. An idle game holds no thread, so a small pool can serve a great many games.
+ *
+ * Commands run through {@link HostedGame#execute(Function)}, so they are also safe next to direct
+ * calls on the hosted game. At most {@link #COMMANDS_PER_TURN} commands run before the actor gives
+ * its thread to the other games.
+ *
+ * @param <G> type of the hosted game.
+ */
+public class GameActor<G extends Game> {
+
+    public static final int COMMANDS_PER_TURN = 64;
+
+    private final HostedGame<G> hostedGame;
+    private final Executor executor;
+    private final ConcurrentLinkedQueue<Command<G, ?>> mailbox;
+    private final AtomicBoolean scheduled;
+
+    public GameActor(HostedGame<G> hostedGame) {
+        this(hostedGame, ForkJoinPool.commonPool());
+    }
+
+    public GameActor(HostedGame<G> hostedGame, Executor executor) {
+        this.hostedGame = hostedGame;
+        this.executor = executor;
+        this.mailbox = new ConcurrentLinkedQueue<>();
+        this.scheduled = new AtomicBoolean();
+    }
+
+    public HostedGame<G> getHostedGame() {
+        return hostedGame;
+    }
+
+    /**
+     * Queues the command, the future completes with its result or with the exception it threw.
+     */
+    public <R> CompletableFuture<R> submit(Function<? super G, R> command) {
+        Command<G, R> mail = new Command<>(command);
+        mailbox.add(mail);
+        schedule();
+        return mail.result;
+    }
+
+    public CompletableFuture<Player> registerPlayer(String uniqueName) {
+        return submit(game -> game.registerPlayer(uniqueName));
+    }
+
+    public CompletableFuture<Void> start() {
+        return submit(game -> {
+            game.start();
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> makeMove(Player player) {
+        return submit(game -> {
+            game.makeMove(player);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> purchaseCurrentCellAsset(Player player) {
+        return submit(game -> {
+            game.purchaseCurrentCellAsset(player);
+            return null;
+        });
+    }
+
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true))
+            return;
+        try {
+            executor.execute(this::processMailbox);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            failQueuedCommands(e);
+        }
+    }
+
+    private void processMailbox() {
+        try {
+            for (int i = 0; i < COMMANDS_PER_TURN; i++) {
+                Command<G, ?> command = mailbox.poll();
+                if (command == null)
+                    break;
+                command.runOn(hostedGame);
+            }
+        } finally {
+            scheduled.set(false);
+            // a command queued while the flag was still set has to be picked up here.
+            if (!mailbox.isEmpty())
+                schedule();
+        }
+    }
+
+    private void failQueuedCommands(Throwable cause) {
+        Command<G, ?> command;
+        while ((command = mailbox.poll()) != null) {
+            command.result.completeExceptionally(cause);
+        }
+    }
+
+    private static final class Command<G extends Game, R> {
+
+        private final Function<? super G, R> command;
+        private final CompletableFuture<R> result;
+
+        Command(Function<? super G, R> command) {
+            this.command = command;
+            this.result = new CompletableFuture<>();
+        }
+
+        void runOn(HostedGame<G> hostedGame) {
+            try {
+                result.complete(hostedGame.execute(command));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+                // the finally of processMailbox schedules the remaining commands before an error leaves.
+                if (e instanceof Error)
+                    throw (Error) e;
+            }
+        }
+    }
+}
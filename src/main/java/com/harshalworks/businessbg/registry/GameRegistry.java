@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.registry;
+
+import com.harshalworks.businessbg.Game;
+import com.harshalworks.businessbg.exceptions.CannotHostGameException;
+import com.harshalworks.businessbg.exceptions.ExceptionMessageConstants;
+import com.harshalworks.businessbg.management.EngineStats;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Hosts many games in one JVM, each under its own id.
+ *
+ * Lookups don't lock, creating and retiring games only locks the map bin of that id, and
+ * every game has its own single writer lock (see {@link HostedGame}), so commands for different
+ * games never wait for each other.
+ * Creating a registry registers the {@link EngineStats} on the platform MBean server, the hosted games are
+ * counted in them until they are retired.
+ *
+ * @param <G> type of the hosted games.
+ */
+public class GameRegistry<G extends Game> {
+
+    private final ConcurrentHashMap<String, HostedGame<G>> games;
+
+    public GameRegistry() {
+        this(16);
+    }
+
+    /**
+     * @param expectedGames number of games expected to be hosted at once, to size the registry up front.
+     */
+    public GameRegistry(int expectedGames) {
+        this.games = new ConcurrentHashMap<>(expectedGames);
+        EngineStats.registerPlatformMBean();
+    }
+
+    /**
+     * Creates a game with the factory and hosts it under the id. The factory only runs for a new id,
+     * while the map bin of that id is locked.
+     *
+     * @throws CannotHostGameException if a game is already hosted under this id.
+     */
+    public HostedGame<G> create(String gameId, Supplier<? extends G> gameFactory) {
+        boolean[] created = new boolean[1];
+        HostedGame<G> hostedGame = games.computeIfAbsent(gameId, id -> {
+            created[0] = true;
+            return new HostedGame<>(id, gameFactory.get());
+        });
+        if (!created[0])
+            throw new CannotHostGameException(String.format(ExceptionMessageConstants.GAME_ID_ALREADY_HOSTED, gameId));
+        return hostedGame;
+    }
+
+    /**
+     * @return the game hosted under this id, or null.
+     */
+    public HostedGame<G> lookup(String gameId) {
+        return games.get(gameId);
+    }
+
+    /**
+     * Stops hosting the game, commands already running on it complete and later ones are refused.
+     * The game is then retired from the {@link EngineStats}, see {@link Game#retire()}.
+     *
+     * @return the retired game, or null if none was hosted under this id.
+     */
+    public HostedGame<G> retire(String gameId) {
+        HostedGame<G> hostedGame = games.remove(gameId);
+        if (hostedGame != null)
+            hostedGame.retire();
+        return hostedGame;
+    }
+
+    public int size() {
+        return games.size();
+    }
+
+    /**
+     * @return estimated heap retained by all the hosted games together.
+     */
+    public long estimateRetainedBytes() {
+        long bytes = 0;
+        for (HostedGame<G> hostedGame : games.values()) {
+            bytes += hostedGame.estimateRetainedBytes();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.registry;
+
+import com.harshalworks.businessbg.Game;
+import com.harshalworks.businessbg.exceptions.CannotHostGameException;
+import com.harshalworks.businessbg.exceptions.ExceptionMessageConstants;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A game living in a {@link GameRegistry}. Games aren't thread safe, so every access goes through
+ * {@link #execute(Function)}, which lets one thread at a time work on this game while other games
+ * are played concurrently.
+ *
+ * @param <G> type of the hosted game.
+ */
+public class HostedGame<G extends Game> {
+
+    private final String gameId;
+    private final G game;
+    private final ReentrantLock writerLock;
+    private volatile boolean retired;
+
+    HostedGame(String gameId, G game) {
+        this.gameId = gameId;
+        this.game = game;
+        this.game.setGameId(gameId);
+        this.game.startReportingToEngineStats();
+        this.writerLock = new ReentrantLock();
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Runs the command on the game, waiting while another thread works on it.
+     *
+     * @throws CannotHostGameException if the game has been retired.
+     */
+    public <R> R execute(Function<? super G, R> command) {
+        writerLock.lock();
+        try {
+            if (retired)
+                throw new CannotHostGameException(String.format(ExceptionMessageConstants.GAME_IS_RETIRED, gameId));
+            return command.apply(game);
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    /**
+     * Like {@link #execute(Function)}, for commands without a result.
+     */
+    public void run(Consumer<? super G> command) {
+        execute(game -> {
+            command.accept(game);
+            return null;
+        });
+    }
+
+    /**
+     * @return estimated heap retained by the game, see {@link Game#estimateRetainedBytes()}, 0 once retired.
+     */
+    public long estimateRetainedBytes() {
+        writerLock.lock();
+        try {
+            return retired ? 0 : game.estimateRetainedBytes();
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    public boolean isRetired() {
+        return retired;
+    }
+
+    void retire() {
+        writerLock.lock();
+        try {
+            retired = true;
+            game.retire();
+        } finally {
+            writerLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.replay;
+
+import com.harshalworks.businessbg.board.CompiledBoard;
+import com.harshalworks.businessbg.compact.CompactGameState;
+import com.harshalworks.businessbg.exceptions.ReplayDivergedException;
+import com.harshalworks.businessbg.journal.EventJournalReader;
+import com.harshalworks.businessbg.journal.JournalVisitor;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Rebuilds the state of {@link com.harshalworks.businessbg.FixedRoundsGame}s from their event journals.
+ *
+ * The journalled dice rolls and purchases are applied straight to a {@link CompactGameState}, no viewers are
+ * notified and no dice are rolled. Turn changes, purchase positions and the end of the game are checked against
+ * the replayed state along the way, so a journal that doesn't belong to the configured game is reported.
+ */
+public class GameReplayer {
+
+    private final CompiledBoard board;
+    private final int fixedAmountForPlayer;
+    private final int initialAmountOfBank;
+    private final int roundsToPlay;
+    private final ForkJoinPool pool;
+
+    public GameReplayer(CompiledBoard board, int fixedAmountForPlayer, int initialAmountOfBank, int roundsToPlay) {
+        this(board, fixedAmountForPlayer, initialAmountOfBank, roundsToPlay, ForkJoinPool.commonPool());
+    }
+
+    public GameReplayer(CompiledBoard board, int fixedAmountForPlayer, int initialAmountOfBank, int roundsToPlay,
+                        ForkJoinPool pool) {
+        this.board = board;
+        this.fixedAmountForPlayer = fixedAmountForPlayer;
+        this.initialAmountOfBank = initialAmountOfBank;
+        this.roundsToPlay = roundsToPlay;
+        this.pool = pool;
+    }
+
+    /**
+     * Replays one journal on the calling thread.
+     */
+    public ReplayedGame replay(Path journal) {
+        Replay replay = new Replay();
+        RuntimeException failure = null;
+        try {
+            new EventJournalReader(journal).read(replay);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        return new ReplayedGame(journal, replay.playerNames, replay.state, replay.recordsReplayed, failure);
+    }
+
+    /**
+     * Replays every journal, spread over the fork-join pool. A failing journal doesn't stop the others.
+     *
+     * @return the replayed games, in the order of the given journals.
+     */
+    public List<ReplayedGame> replayAll(List<Path> journals) {
+        ReplayedGame[] replayed = new ReplayedGame[journals.size()];
+        pool.invoke(new ReplayTask(journals, replayed, 0, replayed.length));
+        return Arrays.asList(replayed);
+    }
+
+    private class Replay implements JournalVisitor {
+
+        private final List<String> playerNames = new ArrayList<>();
+        private CompactGameState state;
+        private long recordsReplayed;
+
+        @Override
+        public void playerJoined(int player, String name) {
+            if (state != null)
+                throw new ReplayDivergedException(name + " JOINED AFTER THE GAME STARTED.");
+            playerNames.add(name);
+            recordsReplayed++;
+        }
+
+        @Override
+        public void gameStarted(String players) {
+            state = new CompactGameState(board, playerNames.size(), fixedAmountForPlayer,
+                    initialAmountOfBank, roundsToPlay);
+            recordsReplayed++;
+        }
+
+        @Override
+        public void diceRolled(int diceValue) {
+            requireStarted().makeMove(diceValue);
+            recordsReplayed++;
+        }
+
+        @Override
+        public void turnChanged(int player) {
+            int replayedPlayer = requireStarted().getPlayerWithCurrentTurn();
+            if (replayedPlayer != player)
+                throw new ReplayDivergedException("TURN OF PLAYER " + player + " BUT REPLAY GIVES IT TO "
+                        + replayedPlayer + ".");
+            recordsReplayed++;
+        }
+
+        @Override
+        public void purchased(int player, int position) {
+            int replayedPosition = requireStarted().getPosition(player);
+            if (replayedPosition != position)
+                throw new ReplayDivergedException("PURCHASE OF CELL " + position + " BY PLAYER " + player
+                        + " WHO IS AT CELL " + replayedPosition + ".");
+            state.purchaseCurrentCellAsset(player);
+            recordsReplayed++;
+        }
+
+        @Override
+        public void finished(String scoreboard) {
+            if (!requireStarted().isFinished())
+                throw new ReplayDivergedException("GAME FINISHED BEFORE ALL ROUNDS WERE PLAYED.");
+            recordsReplayed++;
+        }
+
+        @Override
+        public void otherEvent(String type, String message) {
+            recordsReplayed++;
+        }
+
+        private CompactGameState requireStarted() {
+            if (state == null)
+                throw new ReplayDivergedException("MOVE BEFORE THE GAME STARTED.");
+            return state;
+        }
+    }
+
+    private class ReplayTask extends RecursiveAction {
+
+        private final List<Path> journals;
+        private final ReplayedGame[] replayed;
+        private final int from;
+        private final int to;
+
+        ReplayTask(List<Path> journals, ReplayedGame[] replayed, int from, int to) {
+            this.journals = journals;
+            this.replayed = replayed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                replayed[from] = replay(journals.get(from));
+                return;
+            }
+            if (to <= from)
+                return;
+            int middle = from + (to - from) / 2;
+            invokeAll(new ReplayTask(journals, replayed, from, middle),
+                    new ReplayTask(journals, replayed, middle, to));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.replay;
+
+import com.harshalworks.businessbg.compact.CompactGameState;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of replaying one journal: the rebuilt state, or how far the replay got before it failed.
+ */
+public class ReplayedGame {
+
+    private final Path journal;
+    private final List<String> playerNames;
+    private final CompactGameState state;
+    private final long recordsReplayed;
+    private final RuntimeException failure;
+
+    ReplayedGame(Path journal, List<String> playerNames, CompactGameState state,
+                 long recordsReplayed, RuntimeException failure) {
+        this.journal = journal;
+        this.playerNames = Collections.unmodifiableList(playerNames);
+        this.state = state;
+        this.recordsReplayed = recordsReplayed;
+        this.failure = failure;
+    }
+
+    public Path getJournal() {
+        return journal;
+    }
+
+    /**
+     * @return names of the players in the order they joined, which is also their seat in the state.
+     */
+    public List<String> getPlayerNames() {
+        return playerNames;
+    }
+
+    /**
+     * @return the replayed state, null if the journal ends before the game started.
+     */
+    public CompactGameState getState() {
+        return state;
+    }
+
+    public long getRecordsReplayed() {
+        return recordsReplayed;
+    }
+
+    public boolean isConsistent() {
+        return failure == null;
+    }
+
+    /**
+     * @return why the replay stopped early, null if the whole journal was replayed.
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+}
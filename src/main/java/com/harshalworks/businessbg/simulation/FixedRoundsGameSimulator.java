@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.simulation;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.board.Asset;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.CompiledBoard;
+import com.harshalworks.businessbg.board.cell.Cell;
+import com.harshalworks.businessbg.board.cell.factory.BoardCellDuplicatingFactory;
+import com.harshalworks.businessbg.dealers.MarketAssistant;
+import com.harshalworks.businessbg.dice.SplittableDice;
+import com.harshalworks.businessbg.exceptions.CannotInitializeBoardException;
+import com.harshalworks.businessbg.player.Player;
+import com.harshalworks.businessbg.rules.Rule;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays complete {@link FixedRoundsGame}s without any user interaction, spread over a fork-join pool.
+ *
+ * Every game is built from the same board layout and is driven through the public game API
+ * ({@code makeMove}, {@code purchaseCurrentCellAsset}), so simulated games follow exactly the same rules
+ * as the interactive ones. Game number {@code seed} always rolls the same dice, whichever thread plays it:
+ * every game has its own {@link SplittableDice} stream derived from the master seed and the game number.
+ *
+ * @param <T> type of the cells in the board layout, as understood by the cell factory.
+ */
+public class FixedRoundsGameSimulator<T> {
+
+    private static final int GAMES_PER_TASK = 64;
+
+    private final BoardCellDuplicatingFactory<T> cellFactory;
+    private final T[] boardLayout;
+    private final int numberOfPlayers;
+    private final int fixedAmountForPlayer;
+    private final int initialAmountOfBank;
+    private final int roundsToPlay;
+    private final PurchaseStrategy purchaseStrategy;
+    private final ForkJoinPool pool;
+    private final CompiledBoard boardTemplate;
+    private final long masterSeed;
+
+    public FixedRoundsGameSimulator(BoardCellDuplicatingFactory<T> cellFactory, T[] boardLayout,
+                                    int numberOfPlayers, int fixedAmountForPlayer, int initialAmountOfBank,
+                                    int roundsToPlay, PurchaseStrategy purchaseStrategy) {
+        this(cellFactory, boardLayout, numberOfPlayers, fixedAmountForPlayer, initialAmountOfBank,
+                roundsToPlay, purchaseStrategy, ForkJoinPool.commonPool());
+    }
+
+    public FixedRoundsGameSimulator(BoardCellDuplicatingFactory<T> cellFactory, T[] boardLayout,
+                                    int numberOfPlayers, int fixedAmountForPlayer, int initialAmountOfBank,
+                                    int roundsToPlay, PurchaseStrategy purchaseStrategy, ForkJoinPool pool) {
+        this(cellFactory, boardLayout, numberOfPlayers, fixedAmountForPlayer, initialAmountOfBank,
+                roundsToPlay, purchaseStrategy, pool, 0);
+    }
+
+    /**
+     * @param masterSeed seed of the whole run, the dice of every game are derived from it.
+     */
+    public FixedRoundsGameSimulator(BoardCellDuplicatingFactory<T> cellFactory, T[] boardLayout,
+                                    int numberOfPlayers, int fixedAmountForPlayer, int initialAmountOfBank,
+                                    int roundsToPlay, PurchaseStrategy purchaseStrategy, ForkJoinPool pool,
+                                    long masterSeed) {
+        this.masterSeed = masterSeed;
+        this.cellFactory = cellFactory;
+        this.boardLayout = boardLayout;
+        this.numberOfPlayers = numberOfPlayers;
+        this.fixedAmountForPlayer = fixedAmountForPlayer;
+        this.initialAmountOfBank = initialAmountOfBank;
+        this.roundsToPlay = roundsToPlay;
+        this.purchaseStrategy = purchaseStrategy;
+        this.pool = pool;
+        this.boardTemplate = compileBoardLayout();
+    }
+
+    /**
+     * @return template shared by the boards of all the games, null if the layout has custom cells,
+     * which may hold state and so are duplicated for every game.
+     */
+    private CompiledBoard compileBoardLayout() {
+        try {
+            return CompiledBoard.compile(createBoard());
+        } catch (CannotInitializeBoardException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Plays one game for every seed in the range.
+     *
+     * @param fromSeed first seed, inclusive.
+     * @param toSeed last seed, exclusive.
+     * @return aggregated results of all the games played.
+     */
+    public SimulationResult simulate(long fromSeed, long toSeed) {
+        return pool.invoke(new SimulationTask(fromSeed, toSeed));
+    }
+
+    /**
+     * Plays a single game on the calling thread and adds its outcome to the result.
+     */
+    void playGame(long seed, SimulationResult result) {
+        Board board = createBoard();
+        FixedRoundsGame game = new FixedRoundsGame(fixedAmountForPlayer, initialAmountOfBank,
+                SplittableDice.forGame(masterSeed, seed), board, roundsToPlay);
+        try {
+            Player[] players = new Player[numberOfPlayers];
+            for (int seat = 0; seat < numberOfPlayers; seat++) {
+                players[seat] = game.registerPlayer("Player-" + seat);
+            }
+            game.start();
+
+            int seat = 0;
+            while (!game.isFinished()) {
+                Player player = players[seat];
+                game.makeMove(player);
+                if (!game.isFinished())
+                    offerPurchase(game, board, player);
+                seat = (seat + 1) % numberOfPlayers;
+            }
+
+            int[] finalMoney = new int[numberOfPlayers];
+            int[] netWorth = new int[numberOfPlayers];
+            for (int i = 0; i < numberOfPlayers; i++) {
+                finalMoney[i] = players[i].getMoneyValue();
+                netWorth[i] = finalMoney[i] + players[i].getTotalAssetValue();
+            }
+            result.recordGame(finalMoney, netWorth, game.getBankMoneyValue());
+        } finally {
+            game.retire();
+        }
+    }
+
+    private void offerPurchase(FixedRoundsGame game, Board board, Player player) {
+        Rule rule = board.getRule(player.getCurrentPosition());
+        if (!(rule instanceof Asset))
+            return;
+        Asset asset = (Asset) rule;
+        if (!asset.isPurchasable((MarketAssistant) player))
+            return;
+        if (purchaseStrategy.shouldPurchase(player, asset.getPurchaseCost()))
+            game.purchaseCurrentCellAsset(player);
+    }
+
+    private Board createBoard() {
+        if (boardTemplate != null)
+            return new Board(boardTemplate);
+        Cell[] cells = new Cell[boardLayout.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = cellFactory.createCell(boardLayout[i]);
+        }
+        return new Board(cells);
+    }
+
+    private class SimulationTask extends RecursiveTask<SimulationResult> {
+
+        private final long fromSeed;
+        private final long toSeed;
+
+        SimulationTask(long fromSeed, long toSeed) {
+            this.fromSeed = fromSeed;
+            this.toSeed = toSeed;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (toSeed - fromSeed <= GAMES_PER_TASK) {
+                SimulationResult result = new SimulationResult(numberOfPlayers);
+                for (long seed = fromSeed; seed < toSeed; seed++) {
+                    playGame(seed, result);
+                }
+                return result;
+            }
+            long middle = fromSeed + (toSeed - fromSeed) / 2;
+            SimulationTask left = new SimulationTask(fromSeed, middle);
+            left.fork();
+            SimulationResult right = new SimulationTask(middle, toSeed).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.simulation;
+
+/**
+ * Aggregated outcome of many simulated games, players are identified by their seat (registration order).
+ *
+ * Only running totals are kept, so the size of a result does not grow with the number of games.
+ */
+public class SimulationResult {
+
+    private final int[] winsBySeat;
+    private final long[] finalMoneyBySeat;
+    private long gamesPlayed;
+    private long draws;
+    private long totalBankBalance;
+
+    public SimulationResult(int numberOfPlayers) {
+        this.winsBySeat = new int[numberOfPlayers];
+        this.finalMoneyBySeat = new long[numberOfPlayers];
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param finalMoney money left with each seat when the game finished.
+     * @param netWorth money plus asset value of each seat, highest net worth wins.
+     * @param bankBalance money left in the bank when the game finished.
+     */
+    void recordGame(int[] finalMoney, int[] netWorth, int bankBalance) {
+        int winner = 0;
+        boolean draw = false;
+        for (int seat = 0; seat < netWorth.length; seat++) {
+            finalMoneyBySeat[seat] += finalMoney[seat];
+            if (seat == 0)
+                continue;
+            if (netWorth[seat] > netWorth[winner]) {
+                winner = seat;
+                draw = false;
+            } else if (netWorth[seat] == netWorth[winner]) {
+                draw = true;
+            }
+        }
+        if (draw)
+            draws++;
+        else
+            winsBySeat[winner]++;
+        totalBankBalance += bankBalance;
+        gamesPlayed++;
+    }
+
+    SimulationResult merge(SimulationResult other) {
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            winsBySeat[seat] += other.winsBySeat[seat];
+            finalMoneyBySeat[seat] += other.finalMoneyBySeat[seat];
+        }
+        gamesPlayed += other.gamesPlayed;
+        draws += other.draws;
+        totalBankBalance += other.totalBankBalance;
+        return this;
+    }
+
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public int getNumberOfPlayers() {
+        return winsBySeat.length;
+    }
+
+    public int getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * @return fraction of the games won by each seat, draws are not counted as wins.
+     */
+    public double[] getWinDistribution() {
+        double[] distribution = new double[winsBySeat.length];
+        if (gamesPlayed == 0)
+            return distribution;
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            distribution[seat] = (double) winsBySeat[seat] / gamesPlayed;
+        }
+        return distribution;
+    }
+
+    public double getAverageFinalMoney(int seat) {
+        return gamesPlayed == 0 ? 0 : (double) finalMoneyBySeat[seat] / gamesPlayed;
+    }
+
+    public double getAverageBankBalance() {
+        return gamesPlayed == 0 ? 0 : (double) totalBankBalance / gamesPlayed;
+    }
+}
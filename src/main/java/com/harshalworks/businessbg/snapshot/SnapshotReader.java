@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.snapshot;
+
+import com.harshalworks.businessbg.exceptions.CannotRestoreGameException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads back what a {@link SnapshotWriter} wrote, reads past the end or of malformed values throw
+ * {@link CannotRestoreGameException}.
+ */
+public class SnapshotReader {
+
+    private final byte[] bytes;
+    private int position;
+
+    public SnapshotReader(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public int readByte() {
+        requireBytes(1);
+        return bytes[position++];
+    }
+
+    public int readVarint() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            requireBytes(1);
+            byte b = bytes[position++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new CannotRestoreGameException("MALFORMED VARINT AT BYTE " + position + ".");
+    }
+
+    public int readSignedVarint() {
+        int value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public String readString() {
+        int length = readVarint() - 1;
+        if (length < 0)
+            return null;
+        requireBytes(length);
+        String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public boolean hasRemaining() {
+        return position < bytes.length;
+    }
+
+    private void requireBytes(int count) {
+        if (count > bytes.length - position)
+            throw new CannotRestoreGameException("SNAPSHOT ENDS UNEXPECTEDLY AT BYTE " + position + ".");
+    }
+}
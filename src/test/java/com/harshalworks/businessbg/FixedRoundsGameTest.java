@@ -76,4 +76,36 @@ public class FixedRoundsGameTest {
         Assert.assertTrue(game.isFinished());
     }
 
+    @Test
+    public void playerWhoFinishedTheirRoundsKeepsPlayingUntilOthersFinish(){
+        //given
+        int rounds = 1;
+        Cell[] boardPath = new Cell[]{
+                new BlankCell(), new BlankCell(), new BlankCell(), new BlankCell()
+        };
+        int[] diceoutput = {4, 1, 2, 1, 3, 2};
+        game = new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK, new MockFixedOutputDice(diceoutput),
+                new Board(boardPath), rounds);
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        Player player2 = game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+
+        //when
+        game.makeMove(player1);
+        game.makeMove(player2);
+        game.makeMove(player1);
+        game.makeMove(player2);
+
+        //validate
+        Assert.assertFalse(game.isFinished());
+
+        //when
+        game.makeMove(player1);
+        game.makeMove(player2);
+
+        //then
+        Assert.assertTrue(game.isFinished());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg;
+
+import com.harshalworks.businessbg.bank.Bank;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.dice.Dice;
+import com.harshalworks.businessbg.events.GameEvent;
+import com.harshalworks.businessbg.events.Viewer;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
+import com.harshalworks.businessbg.player.Player;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+public class GameAllocationTest {
+
+    private static final int WARM_UP_MOVES = 50_000;
+    private static final int MEASURED_MOVES = 1_000;
+    private static final int ATTEMPTS = 5;
+    // a purchase creates its PropertyAck and the PURCHASED event with its message, the first purchase of a cell also
+    // its property id and room for it in the buyer's portfolio and the ownership index.
+    private static final long BYTES_PER_PURCHASE = 400;
+
+    private com.sun.management.ThreadMXBean threadBean;
+    private long threadId;
+
+    @Before
+    public void setup() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        threadId = Thread.currentThread().getId();
+    }
+
+    @Test
+    public void makingMovesDoesNotAllocateOnceTheGameIsRunning() {
+        //given
+        RentableCell rentableCell = new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("Silver", 100, 5)});
+        Board board = new Board(new Cell[]{
+                new BlankCell(), new PayToBankCell(10), new BankRewardCell(10), rentableCell, null});
+        FixedRoundsGame game = new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK, new CyclingDice(new int[]{1, 2, 3, 4, 6}),
+                board, Integer.MAX_VALUE / board.getBoardLength());
+        CountingViewer viewer = new CountingViewer();
+        game.subscribe(viewer);
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        Player player2 = game.registerPlayer(TestConstants.PLAYER_2);
+        board.purchaseCellAsset(3, (BoardGamePlayer) player1, new Bank(0));
+        game.start();
+        playMoves(game, player1, player2, WARM_UP_MOVES);
+
+        //when
+        long measurementCost = measurementCost();
+        long allocated = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < ATTEMPTS && allocated != 0; attempt++) {
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            playMoves(game, player1, player2, MEASURED_MOVES);
+            long after = threadBean.getThreadAllocatedBytes(threadId);
+            allocated = Math.min(allocated, after - before - measurementCost);
+        }
+
+        //then
+        Assert.assertEquals(0, allocated);
+        Assert.assertTrue(viewer.count > WARM_UP_MOVES);
+    }
+
+    @Test
+    public void purchasesOnlyAllocateTheirAcknowledgementAndEvent() {
+        //given
+        for (int game = 0; game < 50; game++) {
+            playBuyingEverything();
+        }
+
+        //when
+        long[] purchasesAndBytes = playBuyingEverything();
+        for (int attempt = 1; attempt < ATTEMPTS; attempt++) {
+            long[] attemptResult = playBuyingEverything();
+            if (attemptResult[1] < purchasesAndBytes[1])
+                purchasesAndBytes = attemptResult;
+        }
+
+        //then
+        long purchases = purchasesAndBytes[0];
+        long allocated = purchasesAndBytes[1];
+        Assert.assertTrue(purchases > 50);
+        Assert.assertTrue(allocated + " bytes for " + purchases + " purchases",
+                allocated <= purchases * BYTES_PER_PURCHASE);
+    }
+
+    /**
+     * @return the purchases made and the bytes allocated while playing.
+     */
+    private long[] playBuyingEverything() {
+        Cell[] cells = new Cell[64];
+        for (int position = 0; position < cells.length; position++) {
+            cells[position] = new RentableCell(new RentableMemberbership[]{new RentableMemberbership("Silver", 100, 5),
+                    new RentableMemberbership("Gold", 200, 10), new RentableMemberbership("Platinum", 300, 15)});
+        }
+        Board board = new Board(cells);
+        FixedRoundsGame game = new FixedRoundsGame(Integer.MAX_VALUE / 4, Integer.MAX_VALUE / 4,
+                new CyclingDice(new int[]{1, 2, 3, 4, 6}), board, 1000);
+        game.subscribe(new CountingViewer());
+        BoardGamePlayer[] players = {(BoardGamePlayer) game.registerPlayer(TestConstants.PLAYER_1),
+                (BoardGamePlayer) game.registerPlayer(TestConstants.PLAYER_2)};
+        game.start();
+        // the first moves cache the events of every dice value and player.
+        for (int move = 0; move < 20; move++) {
+            game.makeMove(players[move % 2]);
+        }
+
+        long purchases = 0;
+        long measurementCost = measurementCost();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int move = 20; move < 4_000; move++) {
+            BoardGamePlayer player = players[move % 2];
+            game.makeMove(player);
+            RentableCell cell = (RentableCell) board.getRule(player.getCurrentPosition());
+            if (cell.isPurchasable(player)) {
+                game.purchaseCurrentCellAsset(player);
+                purchases++;
+            }
+        }
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+        return new long[]{purchases, after - before - measurementCost};
+    }
+
+    private long measurementCost() {
+        long cost = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            long after = threadBean.getThreadAllocatedBytes(threadId);
+            cost = Math.min(cost, after - before);
+        }
+        return cost;
+    }
+
+    private void playMoves(Game game, Player player1, Player player2, int moves) {
+        for (int i = 0; i < moves; i += 2) {
+            game.makeMove(player1);
+            game.makeMove(player2);
+        }
+    }
+
+    private static class CyclingDice implements Dice {
+
+        private final int[] outputs;
+        private int current;
+
+        CyclingDice(int[] outputs) {
+            this.outputs = outputs;
+        }
+
+        @Override
+        public int rollTheDice() {
+            int out = outputs[current];
+            current = (current + 1) % outputs.length;
+            return out;
+        }
+    }
+
+    private static class CountingViewer implements Viewer {
+
+        private long count;
+
+        @Override
+        public void notify(GameEvent event) {
+            count++;
+        }
+    }
+}
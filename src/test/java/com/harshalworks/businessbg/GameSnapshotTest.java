@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg;
+
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.dice.MockFixedOutputDice;
+import com.harshalworks.businessbg.exceptions.CannotPurchaseThisAsset;
+import com.harshalworks.businessbg.events.GameEvent;
+import com.harshalworks.businessbg.events.TestViewer;
+import com.harshalworks.businessbg.exceptions.CannotRestoreGameException;
+import com.harshalworks.businessbg.player.Player;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class GameSnapshotTest {
+
+    private static final int ROUNDS = 6;
+
+    private Board createBoard(int length) {
+        Cell[] cells = new Cell[length];
+        for (int i = 0; i < length; i++) {
+            switch (i % 4) {
+                case 1:
+                    cells[i] = new RentableCell(new RentableMemberbership[]{
+                            new RentableMemberbership("Silver", 100, 20),
+                            new RentableMemberbership("Gold", 250, 60)});
+                    break;
+                case 2:
+                    cells[i] = new PayToBankCell(30);
+                    break;
+                case 3:
+                    cells[i] = new BankRewardCell(40);
+                    break;
+                default:
+                    cells[i] = new BlankCell();
+            }
+        }
+        return new Board(cells);
+    }
+
+    private int[] rollDice(int rolls) {
+        Random random = new Random(3);
+        int[] diceOutput = new int[rolls];
+        for (int i = 0; i < rolls; i++) {
+            diceOutput[i] = 1 + random.nextInt(6);
+        }
+        return diceOutput;
+    }
+
+    private FixedRoundsGame createGame(int[] diceOutput, int boardLength) {
+        return new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT, TestConstants.INITIAL_AMOUNT_OF_BANK,
+                new MockFixedOutputDice(diceOutput), createBoard(boardLength), ROUNDS);
+    }
+
+    private void playMove(FixedRoundsGame game) {
+        Player player = game.getPlayer(game.getPlayerWithCurrentTurn());
+        game.makeMove(player);
+        try {
+            if (!game.isFinished())
+                game.purchaseCurrentCellAsset(player);
+        } catch (CannotPurchaseThisAsset e) {
+            // not for sale.
+        }
+    }
+
+    @Test
+    public void restoredGameShouldPlayOnExactlyLikeTheOriginal() {
+        //given
+        int[] diceOutput = rollDice(500);
+        FixedRoundsGame game = createGame(diceOutput, 12);
+        for (int i = 0; i < 3; i++) {
+            game.registerPlayer("Player-" + i);
+        }
+        game.start();
+        int moves = 20;
+        for (int i = 0; i < moves; i++) {
+            playMove(game);
+        }
+
+        //when
+        byte[] snapshot = game.snapshot();
+        FixedRoundsGame restored = createGame(Arrays.copyOfRange(diceOutput, moves, diceOutput.length), 12);
+        restored.restore(snapshot);
+
+        //then
+        Assert.assertArrayEquals(snapshot, restored.snapshot());
+        while (!game.isFinished()) {
+            Assert.assertEquals(game.getPlayerWithCurrentTurn(), restored.getPlayerWithCurrentTurn());
+            playMove(game);
+            playMove(restored);
+            Assert.assertEquals(game.isFinished(), restored.isFinished());
+        }
+        Assert.assertEquals(game.getBankMoneyValue(), restored.getBankMoneyValue());
+        for (int i = 0; i < 3; i++) {
+            Player original = game.getPlayer("Player-" + i);
+            Player copy = restored.getPlayer("Player-" + i);
+            Assert.assertEquals(original.getMoneyValue(), copy.getMoneyValue());
+            Assert.assertEquals(original.getCurrentPosition(), copy.getCurrentPosition());
+            Assert.assertEquals(original.getTotalAssetValue(), copy.getTotalAssetValue());
+        }
+    }
+
+    @Test
+    public void snapshotOfAFortyCellEightPlayerGameShouldTakeAFewHundredBytes() {
+        //given
+        FixedRoundsGame game = createGame(rollDice(200), 40);
+        for (int i = 0; i < 8; i++) {
+            game.registerPlayer("Player-" + i);
+        }
+        game.start();
+        for (int i = 0; i < 80; i++) {
+            playMove(game);
+        }
+
+        //when
+        byte[] snapshot = game.snapshot();
+
+        //then
+        Assert.assertTrue("snapshot takes " + snapshot.length + " bytes", snapshot.length < 400);
+    }
+
+    @Test
+    public void eliminatedPlayersShouldStayOutOfTheTurnOrderWhenRestored() {
+        //given
+        FixedRoundsGame game = createGame(rollDice(10), 12);
+        game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.registerPlayer("Player3");
+        game.start();
+        game.eliminatePlayer(game.uniquePlayers.get(TestConstants.PLAYER_2));
+
+        //when
+        FixedRoundsGame restored = createGame(rollDice(10), 12);
+        restored.restore(game.snapshot());
+
+        //then
+        Assert.assertNotNull(restored.getPlayer(TestConstants.PLAYER_2));
+        Assert.assertEquals(2, restored.playersTurnOrder.size());
+        playMove(restored);
+        Assert.assertEquals("Player3", restored.getPlayerWithCurrentTurn());
+    }
+
+    @Test(expected = CannotRestoreGameException.class)
+    public void snapshotCannotBeRestoredOnABoardOfAnotherLength() {
+        //given
+        FixedRoundsGame game = createGame(rollDice(10), 12);
+        game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+
+        //when
+        createGame(rollDice(10), 16).restore(game.snapshot());
+    }
+
+    @Test(expected = CannotRestoreGameException.class)
+    public void truncatedSnapshotShouldBeRejected() {
+        //given
+        FixedRoundsGame game = createGame(rollDice(10), 12);
+        game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+        byte[] snapshot = game.snapshot();
+
+        //when
+        createGame(rollDice(10), 12).restore(Arrays.copyOf(snapshot, snapshot.length - 3));
+    }
+
+    @Test
+    public void snapshotWithAnUnknownGameStateShouldBeRejectedBeforeRestoringAnything() {
+        //given
+        FixedRoundsGame game = createGame(rollDice(10), 12);
+        game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+        byte[] snapshot = game.snapshot();
+        snapshot[1] = 7;
+        FixedRoundsGame restored = createGame(rollDice(10), 12);
+        restored.registerPlayer("Player3");
+
+        //when
+        try {
+            restored.restore(snapshot);
+            Assert.fail();
+        } catch (CannotRestoreGameException e) {
+            // expected
+        }
+
+        //then
+        Assert.assertFalse(restored.isRunning());
+        Assert.assertNotNull(restored.getPlayer("Player3"));
+        Assert.assertNull(restored.getPlayer(TestConstants.PLAYER_1));
+    }
+
+    @Test
+    public void turnChangedEventsShouldNameTheRestoredPlayers() {
+        //given
+        FixedRoundsGame game = createGame(rollDice(10), 12);
+        TestViewer viewer = new TestViewer();
+        game.subscribe(viewer);
+        game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+        playMove(game);
+        playMove(game);
+        FixedRoundsGame swapped = createGame(rollDice(10), 12);
+        swapped.registerPlayer(TestConstants.PLAYER_2);
+        swapped.registerPlayer(TestConstants.PLAYER_1);
+        swapped.start();
+
+        //when
+        game.restore(swapped.snapshot());
+        game.makeMove(game.getPlayer(TestConstants.PLAYER_2));
+
+        //then
+        GameEvent turnChanged = viewer.getLatestEvent();
+        Assert.assertEquals("TURN_CHANGED", turnChanged.getType());
+        Assert.assertEquals(TestConstants.PLAYER_1, turnChanged.getEventMessage());
+        Assert.assertEquals(TestConstants.PLAYER_1, game.getPlayerWithCurrentTurn());
+    }
+
+    private FixedRoundsGame createRunningGame() {
+        FixedRoundsGame game = createGame(rollDice(100), 12);
+        game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+        for (int i = 0; i < 6; i++) {
+            playMove(game);
+        }
+        return game;
+    }
+
+    private void assertRejectedAndStillPlayable(FixedRoundsGame game, byte[] badSnapshot) {
+        byte[] before = game.snapshot();
+        try {
+            game.restore(badSnapshot);
+            Assert.fail();
+        } catch (CannotRestoreGameException e) {
+            // expected
+        }
+        Assert.assertArrayEquals(before, game.snapshot());
+        playMove(game);
+        Assert.assertTrue(game.isRunning());
+    }
+
+    @Test
+    public void runningGameShouldPlayOnAfterASnapshotOfAnotherVersionIsRejected() {
+        //given
+        FixedRoundsGame game = createRunningGame();
+        byte[] snapshot = createRunningGame().snapshot();
+        snapshot[0] = 9;
+
+        //when then
+        assertRejectedAndStillPlayable(game, snapshot);
+    }
+
+    @Test
+    public void runningGameShouldPlayOnAfterASnapshotOfAnotherBoardIsRejected() {
+        //given
+        FixedRoundsGame game = createRunningGame();
+        FixedRoundsGame other = createGame(rollDice(10), 16);
+        other.registerPlayer("Player3");
+        other.registerPlayer("Player4");
+        other.start();
+
+        //when then
+        assertRejectedAndStillPlayable(game, other.snapshot());
+    }
+
+    @Test
+    public void runningGameShouldPlayOnAfterASnapshotWithAnUnknownMembershipIsRejected() {
+        //given
+        FixedRoundsGame game = createRunningGame();
+        FixedRoundsGame owner = createGame(rollDice(10), 12);
+        owner.registerPlayer(TestConstants.PLAYER_1);
+        owner.registerPlayer(TestConstants.PLAYER_2);
+        owner.start();
+        owner.board.restoreOwnership(9, owner.uniquePlayers.get(TestConstants.PLAYER_1), 1);
+        byte[] snapshot = owner.snapshot();
+        // the last rentable cell is owned, so its membership level is the last byte of the snapshot.
+        Assert.assertEquals(1, snapshot[snapshot.length - 1]);
+        snapshot[snapshot.length - 1] = 5;
+
+        //when then
+        assertRejectedAndStillPlayable(game, snapshot);
+    }
+}
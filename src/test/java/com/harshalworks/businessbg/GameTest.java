@@ -26,12 +26,14 @@ package com.harshalworks.businessbg;
 import com.harshalworks.businessbg.board.Board;
 import com.harshalworks.businessbg.board.cell.BlankCell;
 import com.harshalworks.businessbg.board.cell.Cell;
+import com.harshalworks.businessbg.dealers.MarketAssistant;
 import com.harshalworks.businessbg.dice.Dice;
 import com.harshalworks.businessbg.dice.MockFixedOutputDice;
 import com.harshalworks.businessbg.dice.StandardSixSidedDice;
 import com.harshalworks.businessbg.exceptions.CannotStartGameException;
 import com.harshalworks.businessbg.exceptions.GameIsNotStartedException;
 import com.harshalworks.businessbg.exceptions.PlayerCannotMakeTurnException;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
 import com.harshalworks.businessbg.player.Player;
 import org.junit.Assert;
 import org.junit.Before;
@@ -227,6 +229,67 @@ public class GameTest {
         // expect cannot make move.
     }
 
+    @Test
+    public void playersShouldGetDenseIdsInTheOrderTheyRegister() {
+        //when
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        Player player2 = game.registerPlayer(TestConstants.PLAYER_2);
+        Player again = game.registerPlayer(TestConstants.PLAYER_1);
+
+        //then
+        Assert.assertSame(player1, again);
+        Assert.assertEquals(0, ((BoardGamePlayer) player1).getPlayerId());
+        Assert.assertEquals(1, ((BoardGamePlayer) player2).getPlayerId());
+    }
+
+    @Test
+    public void eliminatedPlayersShouldNotGetTurnsAnymore() {
+        //given
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        Player player2 = game.registerPlayer(TestConstants.PLAYER_2);
+        Player player3 = game.registerPlayer("Player3");
+        game.start();
+
+        //when
+        game.eliminatePlayer(game.uniquePlayers.get(TestConstants.PLAYER_1));
+
+        //then
+        Assert.assertEquals(TestConstants.PLAYER_2, game.getPlayerWithCurrentTurn());
+        game.makeMove(player2);
+        game.makeMove(player3);
+        Assert.assertEquals(TestConstants.PLAYER_2, game.getPlayerWithCurrentTurn());
+        Assert.assertEquals(player1, game.getPlayer(TestConstants.PLAYER_1));
+    }
+
+    @Test
+    public void playerEliminatedByTheirOwnMoveShouldNotCostTheNextPlayerTheirTurn() {
+        //given
+        Cell[] cellPath = createBlankCellPath(10);
+        Game[] games = new Game[1];
+        cellPath[3] = new Cell() {
+            @Override
+            public void execute(BoardGamePlayer player, MarketAssistant bank) {
+                games[0].eliminatePlayer(player);
+            }
+        };
+        games[0] = new TestGame(TestConstants.START_PLAYER_AMOUNT, TestConstants.INITIAL_AMOUNT_OF_BANK,
+                new MockFixedOutputDice(new int[]{3, 1, 1}), new Board(cellPath));
+        Player player1 = games[0].registerPlayer(TestConstants.PLAYER_1);
+        Player player2 = games[0].registerPlayer(TestConstants.PLAYER_2);
+        Player player3 = games[0].registerPlayer("Player3");
+        games[0].start();
+
+        //when
+        games[0].makeMove(player1);
+
+        //then
+        Assert.assertEquals(TestConstants.PLAYER_2, games[0].getPlayerWithCurrentTurn());
+        games[0].makeMove(player2);
+        Assert.assertEquals("Player3", games[0].getPlayerWithCurrentTurn());
+        games[0].makeMove(player3);
+        Assert.assertEquals(TestConstants.PLAYER_2, games[0].getPlayerWithCurrentTurn());
+    }
+
     private void expectCurrentPosition(Player player1, int expected) {
         Assert.assertEquals(expected, player1.getCurrentPosition());
     }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TurnSchedulerTest {
+
+    private TurnScheduler<String> createScheduler(String... players) {
+        TurnScheduler<String> scheduler = new TurnScheduler<>(2);
+        for (String player : players) {
+            scheduler.add(player);
+        }
+        return scheduler;
+    }
+
+    private List<String> turnOrder(TurnScheduler<String> scheduler) {
+        List<String> order = new ArrayList<>();
+        scheduler.forEachInTurnOrder(order::add);
+        return order;
+    }
+
+    @Test
+    public void turnsShouldGoRoundInTheOrderPlayersWereAdded() {
+        //given
+        TurnScheduler<String> scheduler = createScheduler("a", "b", "c");
+
+        //when
+        String first = scheduler.start();
+
+        //then
+        Assert.assertEquals("a", first);
+        Assert.assertEquals("b", scheduler.advance());
+        Assert.assertEquals("c", scheduler.advance());
+        Assert.assertEquals("a", scheduler.advance());
+        Assert.assertEquals(3, scheduler.size());
+    }
+
+    @Test
+    public void removingThePlayerHavingTheTurnShouldPassItOn() {
+        //given
+        TurnScheduler<String> scheduler = createScheduler("a", "b", "c", "d");
+        scheduler.start();
+        scheduler.advance();
+
+        //when
+        scheduler.remove(scheduler.currentSlot());
+
+        //then
+        Assert.assertEquals("c", scheduler.current());
+        Assert.assertEquals(Arrays.asList("c", "d", "a"), turnOrder(scheduler));
+        Assert.assertFalse(scheduler.isActive(1));
+    }
+
+    @Test
+    public void removingOtherPlayersShouldKeepTheTurn() {
+        //given
+        TurnScheduler<String> scheduler = createScheduler("a", "b", "c");
+        scheduler.start();
+
+        //when
+        scheduler.remove(scheduler.indexOf("c"));
+        scheduler.remove(scheduler.indexOf("b"));
+
+        //then
+        Assert.assertEquals("a", scheduler.current());
+        Assert.assertEquals("a", scheduler.advance());
+        Assert.assertEquals(-1, scheduler.indexOf("b"));
+    }
+
+    @Test
+    public void removingEveryoneShouldLeaveNoTurn() {
+        //given
+        TurnScheduler<String> scheduler = createScheduler("a", "b");
+        scheduler.start();
+
+        //when
+        scheduler.remove(0);
+        scheduler.remove(1);
+
+        //then
+        Assert.assertNull(scheduler.current());
+        Assert.assertNull(scheduler.advance());
+        Assert.assertEquals(0, scheduler.size());
+        Assert.assertTrue(turnOrder(scheduler).isEmpty());
+    }
+
+    @Test
+    public void turnOrderBeforeStartShouldBeginWithTheFirstActivePlayer() {
+        //given
+        TurnScheduler<String> scheduler = createScheduler("a", "b", "c");
+
+        //when
+        scheduler.remove(0);
+
+        //then
+        Assert.assertNull(scheduler.current());
+        Assert.assertEquals(Arrays.asList("b", "c"), turnOrder(scheduler));
+        Assert.assertEquals("b", scheduler.start());
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.analysis;
+
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.Cell;
+import com.harshalworks.businessbg.board.cell.PayToBankCell;
+import com.harshalworks.businessbg.board.cell.RentableCell;
+import com.harshalworks.businessbg.board.cell.RentableMemberbership;
+import com.harshalworks.businessbg.dealers.MarketAssistant;
+import com.harshalworks.businessbg.dice.RollDistribution;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class LandingAnalyzerTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Board mixedBoard(int length) {
+        Cell[] cells = new Cell[length];
+        for (int position = 1; position < length; position += 2) {
+            cells[position] = position % 4 == 1 ? new PayToBankCell(10) : new RentableCell(
+                    new RentableMemberbership[]{new RentableMemberbership("", 100, 40)});
+        }
+        return new Board(cells);
+    }
+
+    @Test
+    public void playersShouldLandOnEveryCellAlikeInTheLongRun() {
+        //given
+        LandingAnalyzer analyzer = new LandingAnalyzer(mixedBoard(40), RollDistribution.sixSided());
+
+        //when
+        LandingDistribution distribution = analyzer.stationaryDistribution();
+
+        //then
+        Assert.assertTrue(distribution.isConverged());
+        for (int position = 0; position < 40; position++) {
+            Assert.assertEquals(1.0 / 40, distribution.getProbability(position), 1e-9);
+        }
+    }
+
+    @Test
+    public void playersShouldOnlyLandOnTheCellsTheirRollsCanReach() {
+        //given
+        RollDistribution alwaysTwo = RollDistribution.of(new double[]{0, 0, 1});
+        LandingAnalyzer analyzer = new LandingAnalyzer(mixedBoard(6), alwaysTwo);
+
+        //when
+        LandingDistribution direct = analyzer.stationaryDistribution();
+        LandingDistribution iterated = analyzer.stationaryDistribution(LandingAnalyzer.DEFAULT_MAX_ITERATIONS,
+                LandingAnalyzer.DEFAULT_TOLERANCE);
+
+        //then
+        Assert.assertEquals(0, direct.getIterations());
+        Assert.assertTrue(iterated.isConverged());
+        Assert.assertArrayEquals(new double[]{1.0 / 3, 0, 1.0 / 3, 0, 1.0 / 3, 0}, direct.getProbabilities(), DELTA);
+        Assert.assertArrayEquals(iterated.getProbabilities(), direct.getProbabilities(), DELTA);
+    }
+
+    @Test
+    public void hugeBoardsOfStandardCellsShouldNotBeIterated() {
+        //given
+        LandingAnalyzer analyzer = new LandingAnalyzer(new Board(new Cell[1 << 22]), RollDistribution.sixSided());
+
+        //when
+        LandingDistribution distribution = analyzer.stationaryDistribution();
+
+        //then
+        Assert.assertTrue(distribution.isConverged());
+        Assert.assertEquals(0, distribution.getIterations());
+        Assert.assertEquals(1.0 / (1 << 22), distribution.getProbability(12345), 0);
+    }
+
+    @Test
+    public void boardsWithCustomCellsShouldBeIterated() {
+        //given
+        Cell[] cells = new Cell[20];
+        cells[7] = new Cell() {
+            @Override
+            public void execute(BoardGamePlayer player, MarketAssistant bank) {
+            }
+        };
+        LandingAnalyzer analyzer = new LandingAnalyzer(new Board(cells), RollDistribution.sixSided());
+
+        //when
+        LandingDistribution distribution = analyzer.stationaryDistribution();
+
+        //then
+        Assert.assertTrue(distribution.isConverged());
+        Assert.assertTrue(distribution.getIterations() > 0);
+        Assert.assertEquals(1.0 / 20, distribution.getProbability(7), 1e-9);
+    }
+
+    @Test
+    public void largeBoardsShouldBeIteratedInParallelToTheSameDistribution() {
+        //given
+        int length = LandingAnalyzer.PARALLEL_THRESHOLD * 3 + 7;
+        RollDistribution twoDice = RollDistribution.sixSided().plus(RollDistribution.sixSided());
+        LandingAnalyzer analyzer = new LandingAnalyzer(mixedBoard(length), twoDice);
+
+        //when
+        LandingDistribution distribution = analyzer.stationaryDistribution(50, 0);
+
+        //then
+        double total = 0;
+        for (double probability : distribution.getProbabilities()) {
+            total += probability;
+        }
+        Assert.assertFalse(distribution.isConverged());
+        Assert.assertEquals(50, distribution.getIterations());
+        Assert.assertEquals(1, total, 1e-9);
+        Assert.assertEquals(0, distribution.getProbability(length / 2), 0);
+        Assert.assertTrue(distribution.getProbability(100) > 0);
+    }
+
+    @Test
+    public void expectedVisitsShouldCountEveryLandingUntilTheRoundsAreTravelled() {
+        //given
+        RollDistribution alwaysThree = RollDistribution.of(new double[]{0, 0, 0, 1});
+        LandingAnalyzer analyzer = new LandingAnalyzer(mixedBoard(4), alwaysThree);
+
+        //when
+        double[] visits = analyzer.expectedVisits(2);
+
+        //then landings at distances 3, 6 and 9 (past the 8 cells of two rounds).
+        Assert.assertArrayEquals(new double[]{0, 1, 1, 1}, visits, DELTA);
+    }
+
+    @Test
+    public void expectedVisitsShouldMatchSimulatedPlayers() {
+        //given
+        int length = 10, rounds = 3, players = 200_000;
+        LandingAnalyzer analyzer = new LandingAnalyzer(mixedBoard(length), RollDistribution.sixSided());
+        Random random = new Random(7);
+        double[] simulated = new double[length];
+        for (int player = 0; player < players; player++) {
+            for (int distance = 0; distance < length * rounds; ) {
+                distance += 1 + random.nextInt(6);
+                simulated[distance % length] += 1.0 / players;
+            }
+        }
+
+        //when
+        double[] visits = analyzer.expectedVisits(rounds);
+
+        //then
+        Assert.assertArrayEquals(simulated, visits, 0.01);
+    }
+
+    @Test
+    public void returnOnInvestmentShouldBeGivenForRentableCellsOnly() {
+        //given
+        RollDistribution alwaysThree = RollDistribution.of(new double[]{0, 0, 0, 1});
+        LandingAnalyzer analyzer = new LandingAnalyzer(mixedBoard(4), alwaysThree);
+
+        //when
+        double[] returns = analyzer.expectedReturnOnInvestment(2, 3, 0);
+
+        //then one landing of each of the 3 tenants on cell 3 pays 3 * 40 for a cost of 100.
+        Assert.assertEquals(0.2, returns[3], DELTA);
+        Assert.assertTrue(Double.isNaN(returns[0]));
+        Assert.assertTrue(Double.isNaN(returns[1]));
+        Assert.assertTrue(Double.isNaN(analyzer.expectedReturnOnInvestment(2, 3, 1)[3]));
+    }
+}
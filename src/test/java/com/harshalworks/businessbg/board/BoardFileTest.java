@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.board;
+
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.bank.Bank;
+import com.harshalworks.businessbg.board.cell.BankRewardCell;
+import com.harshalworks.businessbg.board.cell.Cell;
+import com.harshalworks.businessbg.board.cell.PayToBankCell;
+import com.harshalworks.businessbg.board.cell.RentableCell;
+import com.harshalworks.businessbg.board.cell.RentableMemberbership;
+import com.harshalworks.businessbg.exceptions.CorruptedBoardFileException;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class BoardFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void boardLoadedFromFileShouldPlayLikeTheBoardItWasWrittenFrom() throws IOException {
+        //given
+        RentableMemberbership[] memberships = {new RentableMemberbership("Silver", 100, 10),
+                new RentableMemberbership(null, 300, 45)};
+        CompiledBoard written = CompiledBoard.compile(new Board(new Cell[]{null, new PayToBankCell(30),
+                new BankRewardCell(70), new RentableCell(memberships), new RentableCell(memberships)}));
+        Path file = folder.newFile("board.bin").toPath();
+
+        //when
+        BoardFileWriter.write(written, file);
+        Board board = BoardFileLoader.loadBoard(file);
+
+        //then
+        Assert.assertEquals(5, board.getBoardLength());
+        CompiledBoard loaded = CompiledBoard.compile(board);
+        Assert.assertArrayEquals(written.getOpcodes(), loaded.getOpcodes());
+        Assert.assertArrayEquals(written.getOperands(), loaded.getOperands());
+        Assert.assertEquals(1, loaded.getNumberOfMembershipTables());
+        Assert.assertEquals("Silver", loaded.getMembership(3, 0).getName());
+        Assert.assertNull(loaded.getMembership(4, 1).getName());
+        Assert.assertEquals(45, loaded.getRent(4, 1));
+
+        BoardGamePlayer owner = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT, TestConstants.PLAYER_1);
+        BoardGamePlayer tenant = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT, TestConstants.PLAYER_2);
+        Bank bank = new Bank(TestConstants.INITIAL_AMOUNT_OF_BANK);
+        board.purchaseCellAsset(3, owner, bank);
+        board.applyRule(3, tenant, bank);
+        board.applyRule(2, tenant, bank);
+        Assert.assertEquals(TestConstants.START_PLAYER_AMOUNT - 10 + 70, tenant.getMoneyValue());
+    }
+
+    @Test(expected = CorruptedBoardFileException.class)
+    public void fileWithoutTheBoardHeaderShouldNotLoad() throws IOException {
+        //given
+        Path file = folder.newFile("board.bin").toPath();
+        Files.write(file, new byte[64]);
+
+        //when
+        BoardFileLoader.load(file);
+
+        //expect corrupted board file
+    }
+
+    @Test(expected = CorruptedBoardFileException.class)
+    public void truncatedBoardFileShouldNotLoad() throws IOException {
+        //given
+        Path file = folder.newFile("board.bin").toPath();
+        BoardFileWriter.write(CompiledBoard.compile(new Board(new Cell[]{new PayToBankCell(30),
+                new PayToBankCell(40)})), file);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 1));
+
+        //when
+        BoardFileLoader.load(file);
+
+        //expect corrupted board file
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.board;
+
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.bank.Bank;
+import com.harshalworks.businessbg.board.cell.Cell;
+import com.harshalworks.businessbg.board.cell.PayToBankCell;
+import com.harshalworks.businessbg.board.cell.RentableCell;
+import com.harshalworks.businessbg.board.cell.RentableMemberbership;
+import com.harshalworks.businessbg.board.cell.factory.BoardCellDuplicatingFactory;
+import com.harshalworks.businessbg.board.cell.factory.StandardBoardCellDuplicatingFactory;
+import com.harshalworks.businessbg.board.cell.factory.StandardCellTypes;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class BoardTemplateCacheTest {
+
+    private static final StandardCellTypes[] LAYOUT_1 = {null,
+            StandardCellTypes.PAY_TO_BANK, StandardCellTypes.RENT_ABLE};
+    private static final StandardCellTypes[] LAYOUT_2 = {StandardCellTypes.RENT_ABLE,
+            StandardCellTypes.RENT_ABLE};
+    private static final StandardCellTypes[] LAYOUT_3 = {StandardCellTypes.PAY_TO_BANK};
+
+    private static BoardCellDuplicatingFactory<StandardCellTypes> createFactory() {
+        return createFactory(50);
+    }
+
+    private static BoardCellDuplicatingFactory<StandardCellTypes> createFactory(int payToBankAmount) {
+        Map<StandardCellTypes, Cell> cells = new HashMap<>();
+        cells.put(StandardCellTypes.PAY_TO_BANK, new PayToBankCell(payToBankAmount));
+        cells.put(StandardCellTypes.RENT_ABLE, new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 200, 20)}));
+        return new StandardBoardCellDuplicatingFactory(cells);
+    }
+
+    @Test
+    public void gamesOfTheSameLayoutShouldShareOneTemplate() {
+        //given
+        BoardTemplateCache cache = new BoardTemplateCache();
+        BoardCellDuplicatingFactory<StandardCellTypes> factory = createFactory();
+        BoardGamePlayer player = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT, TestConstants.PLAYER_1);
+        Bank bank = new Bank(TestConstants.INITIAL_AMOUNT_OF_BANK);
+
+        //when
+        Board board1 = cache.createBoard(factory, LAYOUT_1);
+        Board board2 = cache.createBoard(factory, LAYOUT_1.clone());
+        board1.purchaseCellAsset(2, player, bank);
+
+        //then
+        Assert.assertSame(cache.getTemplate(factory, LAYOUT_1), CompiledBoard.compile(board2));
+        Assert.assertEquals(CompiledBoard.PAY_TO_BANK, CompiledBoard.compile(board1).getOpcode(1));
+        Assert.assertEquals(player, ((RentableCell) board1.getRule(2)).getOwner());
+        Assert.assertNull(((RentableCell) board2.getRule(2)).getOwner());
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedTemplateShouldBeEvictedWhenTheCacheIsFull() {
+        //given
+        BoardTemplateCache cache = new BoardTemplateCache(2);
+        BoardCellDuplicatingFactory<StandardCellTypes> factory = createFactory();
+        CompiledBoard template1 = cache.getTemplate(factory, LAYOUT_1);
+        cache.getTemplate(factory, LAYOUT_2);
+        cache.getTemplate(factory, LAYOUT_1);
+
+        //when
+        cache.getTemplate(factory, LAYOUT_3);
+
+        //then
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertSame(template1, cache.getTemplate(factory, LAYOUT_1));
+        cache.getTemplate(factory, LAYOUT_2);
+        Assert.assertEquals(4, cache.getMissCount());
+        Assert.assertEquals(2.0 / 6, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void templatesShouldBeSharedByContentWhicheverFactoryBuildsThem() {
+        //given
+        BoardTemplateCache cache = new BoardTemplateCache();
+        CompiledBoard template = cache.getTemplate(createFactory(), LAYOUT_1);
+
+        //when
+        CompiledBoard sameCells = cache.getTemplate(createFactory(), LAYOUT_1.clone());
+        CompiledBoard otherAmount = cache.getTemplate(createFactory(75), LAYOUT_1);
+
+        //then
+        Assert.assertSame(template, sameCells);
+        Assert.assertNotSame(template, otherAmount);
+        Assert.assertEquals(75, otherAmount.getOperand(1));
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void cachedTemplateShouldBeFoundWithoutBuildingTheLayout() {
+        //given
+        BoardTemplateCache cache = new BoardTemplateCache();
+        int[] cellsCreated = new int[1];
+        Map<StandardCellTypes, Cell> cells = new HashMap<>();
+        cells.put(StandardCellTypes.PAY_TO_BANK, new PayToBankCell(50));
+        cells.put(StandardCellTypes.RENT_ABLE, new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 200, 20)}));
+        BoardCellDuplicatingFactory<StandardCellTypes> factory = new StandardBoardCellDuplicatingFactory(cells) {
+            @Override
+            public Cell createCell(StandardCellTypes cellType) {
+                cellsCreated[0]++;
+                return super.createCell(cellType);
+            }
+        };
+        StandardCellTypes[] layout = new StandardCellTypes[1000];
+        for (int position = 0; position < layout.length; position += 2) {
+            layout[position] = StandardCellTypes.RENT_ABLE;
+        }
+        CompiledBoard template = cache.getTemplate(factory, layout);
+        layout[1] = StandardCellTypes.PAY_TO_BANK;
+        CompiledBoard changedLayout = cache.getTemplate(factory, layout);
+        cellsCreated[0] = 0;
+
+        //when
+        CompiledBoard cached = cache.getTemplate(factory, layout.clone());
+
+        //then
+        Assert.assertSame(changedLayout, cached);
+        Assert.assertNotSame(template, changedLayout);
+        Assert.assertEquals(CompiledBoard.BLANK, template.getOpcode(1));
+        Assert.assertEquals(2, cellsCreated[0]);
+    }
+}
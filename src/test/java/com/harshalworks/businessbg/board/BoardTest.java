@@ -25,18 +25,23 @@ package com.harshalworks.businessbg.board;
 
 import com.harshalworks.businessbg.TestConstants;
 import com.harshalworks.businessbg.bank.Bank;
+import com.harshalworks.businessbg.board.cell.BankRewardCell;
 import com.harshalworks.businessbg.board.cell.BlankCell;
 import com.harshalworks.businessbg.board.cell.Cell;
+import com.harshalworks.businessbg.board.cell.PayToBankCell;
 import com.harshalworks.businessbg.board.cell.RentableCell;
 import com.harshalworks.businessbg.board.cell.RentableMemberbership;
 import com.harshalworks.businessbg.exceptions.CannotInitializeBoardException;
 import com.harshalworks.businessbg.exceptions.CannotPurchaseThisAsset;
+import com.harshalworks.businessbg.dealers.MarketAssistant;
 import com.harshalworks.businessbg.exceptions.InvalidBoardPositionException;
 import com.harshalworks.businessbg.player.BoardGamePlayer;
 import com.harshalworks.businessbg.rules.Rule;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.BitSet;
+
 public class BoardTest {
     @Test(expected = CannotPurchaseThisAsset.class)
     public void cannotPurchaseANonPurchaaseAbleCell(){
@@ -152,4 +157,201 @@ public class BoardTest {
         Assert.assertEquals(TestConstants.START_PLAYER_AMOUNT - 1000, player1.getMoneyValue());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void boardShouldIndexTheCellsOwnedByEachPlayer(){
+        //given
+        Bank seller = new Bank(TestConstants.INITIAL_AMOUNT_OF_BANK);
+        Cell[] boardCells = new Cell[6];
+        for (int position = 0; position < boardCells.length; position += 2) {
+            boardCells[position] = new RentableCell(new RentableMemberbership[]{
+                    new RentableMemberbership("", 100, 10), new RentableMemberbership("", 200, 25)});
+        }
+        Board board = new Board(boardCells);
+        BoardGamePlayer player1 = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_1);
+        BoardGamePlayer player2 = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_2);
+
+        //when
+        board.purchaseCellAsset(0, player1, seller);
+        board.purchaseCellAsset(0, player1, seller);
+        board.purchaseCellAsset(2, player1, seller);
+        board.purchaseCellAsset(4, player2, seller);
+
+        //then
+        OwnershipIndex index = board.getOwnershipIndex();
+        Assert.assertEquals(player1, index.getOwner(2));
+        Assert.assertNull(index.getOwner(1));
+        Assert.assertEquals(2, index.countOwnedCells(player1));
+        Assert.assertEquals(1, index.countOwnedCells(player2));
+        Assert.assertEquals(25 + 10, board.getRentExposure(player1));
+        BitSet group = new BitSet();
+        group.set(0);
+        group.set(2);
+        Assert.assertTrue(index.ownsAll(player1, group));
+        Assert.assertFalse(index.ownsAll(player2, group));
+    }
+
+    @Test
+    public void ownershipIndexShouldFollowRestoredOwnership(){
+        //given
+        RentableCell cell = new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 100, 10)});
+        BoardGamePlayer player1 = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_1);
+        BoardGamePlayer player2 = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_2);
+        cell.purchase(player1);
+        Board board = new Board(new Cell[]{cell});
+
+        //when
+        Assert.assertEquals(1, board.getOwnershipIndex().countOwnedCells(player1));
+        board.restoreOwnership(0, player2, 0);
+
+        //then
+        Assert.assertEquals(0, board.getOwnershipIndex().countOwnedCells(player1));
+        Assert.assertTrue(board.getOwnershipIndex().getOwnedCells(player2).get(0));
+        Assert.assertEquals(player2, cell.getOwner());
+    }
+
+    @Test
+    public void restoringTheWholeBoardShouldForgetThePreviousOwners(){
+        //given
+        Board board = new Board(new Cell[]{new BlankCell(), new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 100, 10)}), new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 100, 10)})});
+        Bank bank = new Bank(TestConstants.INITIAL_AMOUNT_OF_BANK);
+        BoardGamePlayer previous = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_1);
+        BoardGamePlayer restored = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_1);
+        board.purchaseCellAsset(1, previous, bank);
+        board.purchaseCellAsset(2, previous, bank);
+
+        //when
+        board.restoreOwnership(new MarketAssistant[]{null, null, restored}, new int[]{0, 0, 0});
+
+        //then
+        OwnershipIndex index = board.getOwnershipIndex();
+        Assert.assertEquals(OwnershipIndex.NO_OWNER, index.getOwnerId(previous));
+        Assert.assertEquals(0, index.getOwnerId(restored));
+        Assert.assertNull(index.getOwner(1));
+        Assert.assertEquals(restored, index.getOwner(2));
+    }
+
+    @Test
+    public void boardShouldApplyTheRuleOfEveryKindOfCell(){
+        //given
+        Bank bank = new Bank(TestConstants.INITIAL_AMOUNT_OF_BANK);
+        RentableCell rentableCell = new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 100, 40)});
+        Cell customCell = new Cell() {
+            @Override
+            public void execute(BoardGamePlayer player, MarketAssistant bank) {
+                player.addMoney(1);
+            }
+        };
+        Board board = new Board(new Cell[]{new BlankCell(), new PayToBankCell(30), new BankRewardCell(50),
+                rentableCell, customCell, null});
+        BoardGamePlayer owner = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_1);
+        BoardGamePlayer player = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_2);
+        board.purchaseCellAsset(3, owner, bank);
+
+        //when
+        for (int position = 0; position < board.getBoardLength(); position++) {
+            player.setPosition(position);
+            board.applyRule(position, player, bank);
+        }
+
+        //then
+        Assert.assertEquals(TestConstants.START_PLAYER_AMOUNT - 30 + 50 - 40 + 1, player.getMoneyValue());
+        Assert.assertEquals(TestConstants.START_PLAYER_AMOUNT - 100 + 40, owner.getMoneyValue());
+        Assert.assertEquals(TestConstants.INITIAL_AMOUNT_OF_BANK + 100 + 30 - 50, bank.getAvailableAmount());
+    }
+
+    @Test(expected = InvalidBoardPositionException.class)
+    public void boardShouldApplyRulesWithinLimitsPositionsOnly(){
+        //given
+        Board board = new Board(new Cell[5]);
+
+        //when
+        board.applyRule(5, new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT, TestConstants.PLAYER_1),
+                new Bank(TestConstants.INITIAL_AMOUNT_OF_BANK));
+
+        //expect invalid board position
+    }
+
+    @Test
+    public void boardsBackedByOneTemplateShouldKeepTheirOwnOwnership(){
+        //given
+        Bank bank = new Bank(TestConstants.INITIAL_AMOUNT_OF_BANK);
+        CompiledBoard template = CompiledBoard.compile(new Board(new Cell[]{new PayToBankCell(30),
+                new RentableCell(new RentableMemberbership[]{
+                        new RentableMemberbership("", 100, 10), new RentableMemberbership("", 300, 50)})}));
+        Board board1 = new Board(template);
+        Board board2 = new Board(template);
+        BoardGamePlayer owner = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_1);
+        BoardGamePlayer tenant = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_2);
+
+        //when
+        board1.purchaseCellAsset(1, owner, bank);
+        board1.purchaseCellAsset(1, owner, bank);
+        board1.applyRule(1, tenant, bank);
+        board2.applyRule(1, tenant, bank);
+        board2.applyRule(0, tenant, bank);
+
+        //then
+        RentableCell cell = (RentableCell) board1.getRule(1);
+        Assert.assertEquals(owner, cell.getOwner());
+        Assert.assertEquals(1, cell.getMembershipLevel());
+        Assert.assertNull(((RentableCell) board2.getRule(1)).getOwner());
+        Assert.assertEquals(TestConstants.START_PLAYER_AMOUNT - 300 + 50, owner.getMoneyValue());
+        Assert.assertEquals(TestConstants.START_PLAYER_AMOUNT - 50 - 30, tenant.getMoneyValue());
+        Assert.assertSame(template, CompiledBoard.compile(board2));
+    }
+
+    @Test
+    public void boardBackedByATemplateShouldRestoreOwnership(){
+        //given
+        CompiledBoard template = CompiledBoard.compile(new Board(new Cell[]{new RentableCell(
+                new RentableMemberbership[]{new RentableMemberbership("", 100, 10)})}));
+        Board board = new Board(template);
+        BoardGamePlayer player = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_1);
+
+        //when
+        board.restoreOwnership(0, player, 0);
+
+        //then
+        Assert.assertEquals(player, ((RentableCell) board.getRule(0)).getOwner());
+        Assert.assertEquals(1, board.getOwnershipIndex().countOwnedCells(player));
+        Assert.assertFalse(((RentableCell) board.getRule(0)).isPurchasable(player));
+    }
+
+    @Test
+    public void boardBackedByATemplateShouldHandOutTheSameRuleForAPosition(){
+        //given
+        CompiledBoard template = CompiledBoard.compile(new Board(new Cell[]{new PayToBankCell(30),
+                new BankRewardCell(20), new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 100, 10)})}));
+        Board board1 = new Board(template);
+        Board board2 = new Board(template);
+
+        //when
+        Rule[] rules = {board1.getRule(0), board1.getRule(1), board1.getRule(2)};
+
+        //then
+        for (int position = 0; position < rules.length; position++) {
+            Assert.assertSame(rules[position], board1.getRule(position));
+        }
+        Assert.assertSame(rules[0], board2.getRule(0));
+        Assert.assertSame(rules[1], board2.getRule(1));
+        Assert.assertNotSame(rules[2], board2.getRule(2));
+        Assert.assertEquals(30, ((PayToBankCell) rules[0]).getAmount());
+    }
+}
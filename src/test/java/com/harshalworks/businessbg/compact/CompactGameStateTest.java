@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.compact;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.CompiledBoard;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.dealers.MarketAssistant;
+import com.harshalworks.businessbg.dice.MockFixedOutputDice;
+import com.harshalworks.businessbg.exceptions.CannotInitializeBoardException;
+import com.harshalworks.businessbg.exceptions.CannotPurchaseThisAsset;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
+import com.harshalworks.businessbg.player.Player;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class CompactGameStateTest {
+
+    private Board createBoard() {
+        RentableMemberbership[] memberberships = {
+                new RentableMemberbership("Silver", 300, 50),
+                new RentableMemberbership("Gold", 500, 120)};
+        return new Board(new Cell[]{
+                new BlankCell(), new RentableCell(memberberships), new PayToBankCell(100),
+                new RentableCell(memberberships), new BankRewardCell(150), null,
+                new RentableCell(new RentableMemberbership[]{new RentableMemberbership("Only", 200, 20)})
+        });
+    }
+
+    @Test
+    public void compiledBoardStoresIdenticalMembershipTablesOnce() {
+        //when
+        CompiledBoard compiledBoard = CompiledBoard.compile(createBoard());
+
+        //then
+        Assert.assertEquals(7, compiledBoard.getBoardLength());
+        Assert.assertEquals(2, compiledBoard.getNumberOfMembershipTables());
+        Assert.assertEquals(CompiledBoard.BLANK, compiledBoard.getOpcode(5));
+        Assert.assertEquals(CompiledBoard.PAY_TO_BANK, compiledBoard.getOpcode(2));
+        Assert.assertEquals(100, compiledBoard.getOperand(2));
+        Assert.assertEquals(120, compiledBoard.getRent(3, 1));
+    }
+
+    @Test(expected = CannotInitializeBoardException.class)
+    public void customCellsCannotBeCompiled() {
+        //given
+        Board board = new Board(new Cell[]{new Cell() {
+            @Override
+            public void execute(BoardGamePlayer player, MarketAssistant bank) {
+            }
+        }});
+
+        //when
+        CompiledBoard.compile(board);
+    }
+
+    @Test
+    public void compactGameEndsInTheSameStateAsTheObjectGame() {
+        //given
+        int players = 3, rounds = 4;
+        int[] diceOutput = new int[200];
+        Random random = new Random(42);
+        for (int i = 0; i < diceOutput.length; i++) {
+            diceOutput[i] = 1 + random.nextInt(6);
+        }
+        Board board = createBoard();
+        FixedRoundsGame game = new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK, new MockFixedOutputDice(diceOutput), board, rounds);
+        Player[] seats = new Player[players];
+        for (int seat = 0; seat < players; seat++) {
+            seats[seat] = game.registerPlayer("Player-" + seat);
+        }
+        game.start();
+        CompactGameState state = new CompactGameState(CompiledBoard.compile(createBoard()), players,
+                TestConstants.START_PLAYER_AMOUNT, TestConstants.INITIAL_AMOUNT_OF_BANK, rounds);
+
+        //when
+        int move = 0;
+        while (!game.isFinished()) {
+            int seat = state.getPlayerWithCurrentTurn();
+            game.makeMove(seats[seat]);
+            state.makeMove(diceOutput[move++]);
+            purchaseOnBoth(game, seats[seat], state, seat);
+        }
+
+        //then
+        Assert.assertTrue(state.isFinished());
+        Assert.assertEquals(game.getBankMoneyValue(), state.getBankMoneyValue());
+        for (int seat = 0; seat < players; seat++) {
+            Assert.assertEquals(seats[seat].getCurrentPosition(), state.getPosition(seat));
+            Assert.assertEquals(seats[seat].getMoneyValue(), state.getMoneyValue(seat));
+            Assert.assertEquals(seats[seat].getTotalAssetValue(), state.getTotalAssetValue(seat));
+        }
+    }
+
+    private void purchaseOnBoth(FixedRoundsGame game, Player player, CompactGameState state, int seat) {
+        boolean purchasedInGame = true;
+        try {
+            game.purchaseCurrentCellAsset(player);
+        } catch (CannotPurchaseThisAsset e) {
+            purchasedInGame = false;
+        }
+        Assert.assertEquals(purchasedInGame, state.canPurchaseCurrentCellAsset(seat));
+        if (purchasedInGame)
+            state.purchaseCurrentCellAsset(seat);
+    }
+
+    @Test(expected = CannotPurchaseThisAsset.class)
+    public void compactGameRefusesToSellACellOwnedBySomeoneElse() {
+        //given
+        CompactGameState state = new CompactGameState(CompiledBoard.compile(createBoard()), 2,
+                TestConstants.START_PLAYER_AMOUNT, TestConstants.INITIAL_AMOUNT_OF_BANK, 2);
+        state.makeMove(1);
+        state.purchaseCurrentCellAsset(0);
+
+        //when
+        state.makeMove(1);
+        state.purchaseCurrentCellAsset(1);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.dice;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AliasDiceTest {
+
+    @Test
+    public void twoSixSidedDiceShouldRollSumsWithTheirDistribution() {
+        //given
+        AliasDice dice = AliasDice.sumOf(2, 6, 17);
+        int[] rolls = new int[360_000];
+        int[] sums = new int[13];
+
+        //when
+        dice.fill(rolls);
+        for (int roll : rolls) {
+            sums[roll]++;
+        }
+
+        //then
+        Assert.assertEquals(6.0 / 36, dice.getDistribution().getProbability(7), 1e-12);
+        Assert.assertEquals(0, sums[0] + sums[1]);
+        for (int sum = 2; sum <= 12; sum++) {
+            Assert.assertEquals(360_000 * dice.getDistribution().getProbability(sum), sums[sum], 1500);
+        }
+    }
+
+    @Test
+    public void weightedDiceShouldNeverRollAFaceWithoutWeight() {
+        //given
+        AliasDice dice = AliasDice.weighted(new double[]{0, 3, 0, 1}, 5);
+        int[] faces = new int[4];
+
+        //when
+        for (int i = 0; i < 40_000; i++) {
+            faces[dice.rollTheDice()]++;
+        }
+
+        //then
+        Assert.assertEquals(0, faces[0] + faces[2]);
+        Assert.assertEquals(30_000, faces[1], 600);
+        Assert.assertEquals(10_000, faces[3], 600);
+    }
+
+    @Test
+    public void diceOfTheSameSeedShouldRollTheSameValues() {
+        //given
+        Dice dice1 = AliasDice.sumOf(3, 4, 99);
+        Dice dice2 = AliasDice.sumOf(3, 4, 99);
+        int[] rolls1 = new int[100], rolls2 = new int[100];
+
+        //when
+        dice1.fill(rolls1);
+        dice2.fill(rolls2);
+
+        //then
+        Assert.assertArrayEquals(rolls1, rolls2);
+        for (int roll : rolls1) {
+            Assert.assertTrue(roll >= 3 && roll <= 12);
+        }
+    }
+}
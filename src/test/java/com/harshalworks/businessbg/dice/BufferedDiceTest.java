@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.dice;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BufferedDiceTest {
+
+    @Test
+    public void bufferedDiceShouldRollTheSameValuesForTheSameSeed() {
+        //given
+        Dice dice1 = new BufferedDice(9, 1, 6, 100);
+        Dice dice2 = new BufferedDice(9, 1, 6, 64);
+        int[] rolls1 = new int[1000], rolls2 = new int[1000];
+
+        //when
+        for (int i = 0; i < rolls1.length; i++) {
+            rolls1[i] = dice1.rollTheDice();
+        }
+        dice2.fill(rolls2);
+
+        //then the buffer size only changes when rolls are generated.
+        Assert.assertEquals(rolls1[0], rolls2[0]);
+        for (int roll : rolls1) {
+            Assert.assertTrue(roll >= 1 && roll <= 6);
+        }
+    }
+
+    @Test
+    public void twoSixSidedDiceShouldRollSumsWithTheirDistribution() {
+        //given
+        Dice dice = new BufferedDice(3, 2, 6);
+        int[] rolls = new int[360_000];
+        int[] sums = new int[13];
+
+        //when
+        dice.fill(rolls);
+        for (int roll : rolls) {
+            sums[roll]++;
+        }
+
+        //then
+        Assert.assertEquals(0, sums[0] + sums[1]);
+        Assert.assertEquals(60_000, sums[7], 1500);
+        Assert.assertEquals(10_000, sums[2], 600);
+        Assert.assertEquals(10_000, sums[12], 600);
+    }
+
+    @Test
+    public void diceWithTooManyOutcomesForATableShouldStillRollTheirFaces() {
+        //given dice for which about 2% of the raw draws have to be drawn again.
+        int sides = 700_000_001;
+        Dice dice = new BufferedDice(11, 3, sides, 257);
+        int[] rolls = new int[2000];
+
+        //when
+        dice.fill(rolls);
+
+        //then
+        long total = 0;
+        for (int roll : rolls) {
+            Assert.assertTrue(roll >= 3);
+            total += roll;
+        }
+        double mean = (double) total / rolls.length;
+        Assert.assertEquals(3 * (sides + 1) / 2.0, mean, sides / 20.0);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.dice;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RollDistributionTest {
+
+    @Test
+    public void twoSixSidedDiceShouldRollSevenMostOften() {
+        //given
+        RollDistribution oneDice = RollDistribution.sixSided();
+
+        //when
+        RollDistribution twoDice = oneDice.plus(oneDice);
+
+        //then
+        Assert.assertEquals(2, twoDice.getMinRoll());
+        Assert.assertEquals(12, twoDice.getMaxRoll());
+        Assert.assertEquals(6.0 / 36, twoDice.getProbability(7), 1e-12);
+        Assert.assertEquals(1.0 / 36, twoDice.getProbability(12), 1e-12);
+        Assert.assertEquals(0, twoDice.getProbability(1), 0);
+        Assert.assertEquals(7, twoDice.getMean(), 1e-12);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void diceShouldNotBeAbleToRollZero() {
+        //when
+        RollDistribution.of(new double[]{1, 1});
+
+        //expect illegal argument
+    }
+}
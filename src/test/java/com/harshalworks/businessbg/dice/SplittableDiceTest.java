@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.dice;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class SplittableDiceTest {
+
+    @Test
+    public void diceOfTheSameGameShouldRollTheSameValues() {
+        //given
+        Dice dice1 = SplittableDice.forGame(42, 7);
+        Dice dice2 = SplittableDice.forGame(42, 7);
+        Dice otherGame = SplittableDice.forGame(42, 8);
+        int[] rolls1 = new int[100], rolls2 = new int[100], otherRolls = new int[100];
+
+        //when
+        for (int i = 0; i < rolls1.length; i++) {
+            rolls1[i] = dice1.rollTheDice();
+        }
+        dice2.fill(rolls2);
+        otherGame.fill(otherRolls);
+
+        //then
+        Assert.assertArrayEquals(rolls1, rolls2);
+        Assert.assertFalse(Arrays.equals(rolls1, otherRolls));
+    }
+
+    @Test
+    public void diceShouldRollEveryFaceAlike() {
+        //given
+        SplittableDice dice = new SplittableDice(1, 10);
+        int[] rolls = new int[100_000];
+        int[] faces = new int[11];
+
+        //when
+        dice.fill(rolls);
+        for (int roll : rolls) {
+            faces[roll]++;
+        }
+
+        //then
+        Assert.assertEquals(0, faces[0]);
+        for (int face = 1; face <= 10; face++) {
+            Assert.assertEquals(10_000, faces[face], 500);
+        }
+    }
+
+    @Test
+    public void splitDiceShouldRollTheirOwnValues() {
+        //given
+        SplittableDice dice = new SplittableDice(5);
+
+        //when
+        SplittableDice split = dice.split();
+        int[] rolls = new int[50], splitRolls = new int[50];
+        dice.fill(rolls);
+        split.fill(splitRolls);
+
+        //then
+        Assert.assertFalse(Arrays.equals(rolls, splitRolls));
+        Assert.assertEquals(StandardSixSidedDice.DICE_SIDES, split.getSides());
+    }
+}
@@ -31,6 +31,7 @@ import com.harshalworks.businessbg.board.Board;
 import com.harshalworks.businessbg.board.cell.*;
 import com.harshalworks.businessbg.dice.MockFixedOutputDice;
 import com.harshalworks.businessbg.dice.StandardSixSidedDice;
+import com.harshalworks.businessbg.player.BoardGamePlayer;
 import com.harshalworks.businessbg.player.Player;
 import org.junit.Assert;
 import org.junit.Before;
@@ -154,4 +155,31 @@ public class ObserversTest {
         Assert.assertEquals(TestConstants.PLAYER_1 + "-Cell-" + 1 , event.getEventMessage());
     }
 
+    @Test
+    public void purchaseShouldBePublishedAtThePositionOfTheRegisteredPlayer(){
+        //given
+        board = new Board(new Cell[]{new BlankCell(), new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 500, 100)})});
+        game = new TestGame(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK,
+                new MockFixedOutputDice(new int[]{1}), board);
+        TestViewer viewer = new TestViewer();
+        game.subscribe(viewer);
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+        game.makeMove(player1);
+        // another instance of the same player, which hasn't moved.
+        Player sameName = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT, TestConstants.PLAYER_1);
+
+        //when
+        game.purchaseCurrentCellAsset(sameName);
+
+        //then
+        GameEvent event = viewer.getLatestEvent();
+        Assert.assertEquals("PURCHASED", event.getType());
+        Assert.assertEquals(1, event.getValue());
+        Assert.assertEquals(TestConstants.PLAYER_1 + "-Cell-" + 1, event.getEventMessage());
+    }
+
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.events;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.BlankCell;
+import com.harshalworks.businessbg.board.cell.Cell;
+import com.harshalworks.businessbg.dice.MockFixedOutputDice;
+import com.harshalworks.businessbg.player.Player;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class RingBufferGameEventPublisherTest {
+
+    @Test
+    public void viewersShouldReceiveEveryEventInPublishingOrderEvenWhenTheBufferWrapsAround() {
+        //given
+        RingBufferGameEventPublisher publisher = new RingBufferGameEventPublisher(8, 1, WaitStrategy.YIELD);
+        TestViewer viewer = new TestViewer();
+        publisher.addSubscriber(viewer);
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            publisher.publishEvent(new GameEvent("DICE_ROLLED", "" + i));
+        }
+        publisher.close();
+
+        //then
+        List<GameEvent> events = viewer.getEvents();
+        Assert.assertEquals(1000, events.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals("" + i, events.get(i).getEventMessage());
+        }
+    }
+
+    @Test
+    public void viewersOnDifferentConsumerThreadsShouldAllReceiveTheEvents() {
+        //given
+        RingBufferGameEventPublisher publisher = new RingBufferGameEventPublisher(16, 2, WaitStrategy.BUSY_SPIN);
+        TestViewer[] viewers = {new TestViewer(), new TestViewer(), new TestViewer()};
+        for (TestViewer viewer : viewers) {
+            publisher.addSubscriber(viewer);
+        }
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            publisher.publishEvent(new GameEvent("DICE_ROLLED", "" + i));
+        }
+        publisher.close();
+
+        //then
+        for (TestViewer viewer : viewers) {
+            Assert.assertEquals(100, viewer.getEvents().size());
+            Assert.assertEquals("99", viewer.getLatestEvent().getEventMessage());
+        }
+    }
+
+    @Test
+    public void aViewerThrowingShouldNotStopTheOthersFromBeingNotified() {
+        //given
+        RingBufferGameEventPublisher publisher =
+                new RingBufferGameEventPublisher(4, 1, WaitStrategy.park(1, TimeUnit.MILLISECONDS));
+        TestViewer viewer = new TestViewer();
+        publisher.addSubscriber(event -> {
+            throw new IllegalStateException();
+        });
+        publisher.addSubscriber(viewer);
+
+        //when
+        publisher.publishEvent(new GameEvent("PLAYER_JOINED", TestConstants.PLAYER_1));
+        publisher.publishEvent(new GameEvent("PLAYER_JOINED", TestConstants.PLAYER_2));
+        publisher.close();
+
+        //then
+        Assert.assertEquals(2, viewer.getEvents().size());
+        Assert.assertEquals(2, publisher.getFailedNotifications());
+    }
+
+    @Test
+    public void aViewerThrowingAnErrorShouldNotBlockThePublisher() {
+        //given
+        RingBufferGameEventPublisher publisher = new RingBufferGameEventPublisher(4, 1, WaitStrategy.YIELD);
+        TestViewer viewer = new TestViewer();
+        publisher.addSubscriber(event -> {
+            throw new AssertionError();
+        });
+        publisher.addSubscriber(viewer);
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            publisher.publishEvent(new GameEvent("DICE_ROLLED", "" + i));
+        }
+        publisher.close();
+
+        //then
+        Assert.assertEquals(100, viewer.getEvents().size());
+        Assert.assertEquals(100, publisher.getFailedNotifications());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void eventsShouldNotBePublishedOnceClosed() {
+        //given
+        RingBufferGameEventPublisher publisher = new RingBufferGameEventPublisher(8, 1, WaitStrategy.YIELD);
+        publisher.addSubscriber(new TestViewer());
+        publisher.close();
+
+        //when
+        publisher.publishEvent(new GameEvent("DICE_ROLLED", "6"));
+    }
+
+    @Test
+    public void gamesShouldPublishThroughTheRingBuffer() {
+        //given
+        RingBufferGameEventPublisher publisher = new RingBufferGameEventPublisher();
+        FixedRoundsGame game = new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK, new MockFixedOutputDice(new int[]{1}),
+                new Board(new Cell[]{new BlankCell(), new BlankCell()}), 1, publisher);
+        TestViewer viewer = new TestViewer();
+        game.subscribe(viewer);
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+
+        //when
+        game.makeMove(player1);
+        publisher.close();
+
+        //then
+        Assert.assertEquals(5, viewer.getEvents().size());
+        Assert.assertEquals("GAME_STARTED", viewer.getEventFromLast(2).getType());
+        Assert.assertEquals("DICE_ROLLED", viewer.getEventFromLast(1).getType());
+        Assert.assertEquals("TURN_CHANGED", viewer.getLatestEvent().getType());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bufferSizeShouldBeAPowerOfTwo() {
+        new RingBufferGameEventPublisher(10, 1, WaitStrategy.YIELD);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.jfr;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.dice.MockFixedOutputDice;
+import com.harshalworks.businessbg.player.Player;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class GameFlightRecorderEventsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recordedGameShouldEmitItsEngineEvents() throws IOException {
+        //given
+        Board board = new Board(new Cell[]{new BlankCell(), new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 500, 100)}), new PayToBankCell(50), new BankRewardCell(20)});
+        FixedRoundsGame game = new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK, new MockFixedOutputDice(new int[]{1, 1, 4, 4}), board, 1);
+        game.setGameId("game-7");
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        Player player2 = game.registerPlayer(TestConstants.PLAYER_2);
+        Path dump = folder.newFile("game.jfr").toPath();
+
+        //when
+        try (Recording recording = new Recording()) {
+            for (String event : new String[]{"MakeMove", "Transaction", "RentPaid", "EventPublished", "GameStarted", "GameFinished"}) {
+                recording.enable("com.harshalworks.businessbg." + event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            game.start();
+            game.makeMove(player1);
+            game.purchaseCurrentCellAsset(player1);
+            game.makeMove(player2);
+            game.makeMove(player1);
+            game.makeMove(player2);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        //then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<RecordedEvent> moves = ofType(events, "MakeMove");
+        Assert.assertEquals(4, moves.size());
+        Assert.assertEquals("game-7", moves.get(0).getString("gameId"));
+        Assert.assertEquals(1, moves.get(1).getInt("diceValue"));
+        Assert.assertEquals(1, moves.get(1).getInt("position"));
+        RecordedEvent transaction = ofType(events, "Transaction").get(0);
+        Assert.assertEquals(1, transaction.getInt("position"));
+        Assert.assertEquals(500, transaction.getInt("amount"));
+        RecordedEvent rent = ofType(events, "RentPaid").get(0);
+        Assert.assertEquals(100, rent.getInt("amount"));
+        Assert.assertEquals(1, rent.getInt("position"));
+        Assert.assertEquals(moves.get(1).getInt("playerId"), rent.getInt("payerId"));
+        Assert.assertEquals(transaction.getInt("buyerId"), rent.getInt("ownerId"));
+        Assert.assertEquals(1, ofType(events, "GameStarted").size());
+        Assert.assertEquals("game-7", ofType(events, "GameFinished").get(0).getString("gameId"));
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.harshalworks.businessbg." + name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
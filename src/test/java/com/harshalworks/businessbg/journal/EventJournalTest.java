@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.journal;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.dice.MockFixedOutputDice;
+import com.harshalworks.businessbg.events.GameEvent;
+import com.harshalworks.businessbg.events.StandardGameEventPublisher;
+import com.harshalworks.businessbg.events.TestViewer;
+import com.harshalworks.businessbg.exceptions.CorruptedJournalException;
+import com.harshalworks.businessbg.player.Player;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class EventJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void journalShouldGiveBackTheEventsTheViewersSaw() throws IOException {
+        //given
+        Path directory = folder.newFolder().toPath();
+        JournalingGameEventPublisher publisher = new JournalingGameEventPublisher(
+                new StandardGameEventPublisher(), new EventJournalWriter(directory));
+        Board board = new Board(new Cell[]{new BlankCell(), new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 500, 100)}), new PayToBankCell(50), new BankRewardCell(20)});
+        FixedRoundsGame game = new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK, new MockFixedOutputDice(new int[]{1, 2, 3, 1, 2, 3, 1, 2, 3, 1, 2, 3}), board, 2,
+                publisher);
+        TestViewer viewer = new TestViewer();
+        game.subscribe(viewer);
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        Player player2 = game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+
+        //when
+        game.makeMove(player1);
+        game.purchaseCurrentCellAsset(player1);
+        Player next = player2;
+        while (!game.isFinished()) {
+            game.makeMove(next);
+            next = next == player1 ? player2 : player1;
+        }
+        publisher.close();
+
+        //then
+        List<GameEvent> journalled = new EventJournalReader(directory).readEvents();
+        List<GameEvent> seen = viewer.getEvents();
+        Assert.assertEquals(seen.size(), journalled.size());
+        for (int i = 0; i < seen.size(); i++) {
+            Assert.assertEquals(seen.get(i).getType(), journalled.get(i).getType());
+            Assert.assertEquals(seen.get(i).getEventMessage(), journalled.get(i).getEventMessage());
+        }
+    }
+
+    @Test
+    public void journalShouldRollOverToNewSegmentsWhenOneIsFull() throws IOException {
+        //given
+        Path directory = folder.newFolder().toPath();
+        EventJournalWriter writer = new EventJournalWriter(directory, 64, 10);
+
+        //when
+        for (int i = -50; i < 50; i++) {
+            writer.append(new GameEvent(GameEvent.DICE_ROLLED, "" + i, null, i));
+        }
+        writer.close();
+
+        //then
+        Assert.assertTrue(writer.getSegmentCount() > 1);
+        List<GameEvent> events = new EventJournalReader(directory).readEvents();
+        Assert.assertEquals(100, events.size());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i - 50, events.get(i).getValue());
+        }
+    }
+
+    @Test
+    public void eventsWithoutDetailsShouldBeJournalledAsTheyAre() throws IOException {
+        //given
+        Path directory = folder.newFolder().toPath();
+        EventJournalWriter writer = new EventJournalWriter(directory);
+
+        //when
+        writer.append(new GameEvent("JAILED", "Prisoner \u2639"));
+        writer.append(new GameEvent(GameEvent.TURN_CHANGED, null));
+        writer.close();
+
+        //then
+        List<GameEvent> events = new EventJournalReader(directory).readEvents();
+        Assert.assertEquals("JAILED", events.get(0).getType());
+        Assert.assertEquals("Prisoner \u2639", events.get(0).getEventMessage());
+        Assert.assertEquals(GameEvent.TURN_CHANGED, events.get(1).getType());
+        Assert.assertNull(events.get(1).getEventMessage());
+    }
+
+    @Test(expected = CorruptedJournalException.class)
+    public void readingSomethingElseThanAJournalShouldFail() throws IOException {
+        Path directory = folder.newFolder().toPath();
+        Files.write(directory.resolve("segment-0000000000.journal"), new byte[]{1, 2, 3, 4, 5, 6});
+
+        new EventJournalReader(directory).readEvents();
+    }
+}
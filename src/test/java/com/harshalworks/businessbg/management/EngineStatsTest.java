@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.management;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.dice.MockFixedOutputDice;
+import com.harshalworks.businessbg.events.RingBufferGameEventPublisher;
+import com.harshalworks.businessbg.events.TestViewer;
+import com.harshalworks.businessbg.player.Player;
+import com.harshalworks.businessbg.registry.GameRegistry;
+import com.harshalworks.businessbg.registry.HostedGame;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+public class EngineStatsTest {
+
+    private static FixedRoundsGame newGame() {
+        Board board = new Board(new Cell[]{new BlankCell(), new PayToBankCell(50), new BankRewardCell(20), new BlankCell()});
+        return new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT, TestConstants.INITIAL_AMOUNT_OF_BANK,
+                new MockFixedOutputDice(new int[]{1, 2, 1, 2}), board, 1);
+    }
+
+    @Test
+    public void statsShouldFollowTheGamesAsTheyArePlayed() {
+        //given
+        EngineStats stats = EngineStats.get();
+        long waiting = stats.getWaitingGames();
+        long running = stats.getRunningGames();
+        long finished = stats.getFinishedGames();
+        long moves = stats.getTotalMoves();
+        long events = stats.getTotalEventsPublished();
+        long viewers = stats.getViewers();
+        long bankBalance = stats.getTotalBankBalance();
+
+        GameRegistry<FixedRoundsGame> registry = new GameRegistry<>();
+
+        //when
+        FixedRoundsGame game = registry.create("played", EngineStatsTest::newGame).execute(hosted -> hosted);
+        game.subscribe(new TestViewer());
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        Player player2 = game.registerPlayer(TestConstants.PLAYER_2);
+        Assert.assertEquals(waiting + 1, stats.getWaitingGames());
+        game.start();
+        Assert.assertEquals(running + 1, stats.getRunningGames());
+        game.makeMove(player1);
+        game.makeMove(player2);
+
+        //then
+        Assert.assertEquals(waiting, stats.getWaitingGames());
+        Assert.assertEquals(running + 1, stats.getRunningGames());
+        Assert.assertEquals(finished, stats.getFinishedGames());
+        Assert.assertEquals(moves + 2, stats.getTotalMoves());
+        // 2 joined, started, 2 dice rolled and 2 turns changed.
+        Assert.assertEquals(events + 7, stats.getTotalEventsPublished());
+        Assert.assertEquals(viewers + 1, stats.getViewers());
+        Assert.assertEquals(bankBalance + TestConstants.INITIAL_AMOUNT_OF_BANK + 50 - 20, stats.getTotalBankBalance());
+        Assert.assertEquals(game.getBankMoneyValue(), TestConstants.INITIAL_AMOUNT_OF_BANK + 50 - 20);
+        registry.retire("played");
+    }
+
+    @Test
+    public void gamesShouldOnlyBeCountedWhileARegistryHostsThem() {
+        //given
+        EngineStats stats = EngineStats.get();
+        long waiting = stats.getWaitingGames();
+        long running = stats.getRunningGames();
+        long banks = stats.getBanks();
+        long publishers = stats.getPublishers();
+        FixedRoundsGame game = newGame();
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+
+        //when
+        game.makeMove(player1);
+        long runningWhilePlayed = stats.getRunningGames();
+        long banksWhilePlayed = stats.getBanks();
+        game.retire();
+
+        //then
+        Assert.assertEquals(running, runningWhilePlayed);
+        Assert.assertEquals(banks, banksWhilePlayed);
+        Assert.assertEquals(waiting, stats.getWaitingGames());
+        Assert.assertEquals(running, stats.getRunningGames());
+        Assert.assertEquals(publishers, stats.getPublishers());
+    }
+
+    @Test
+    public void statsShouldBeReadableAsPlatformMBean() throws JMException {
+        //given
+        ObjectName name = EngineStats.registerPlatformMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        GameRegistry<FixedRoundsGame> registry = new GameRegistry<>();
+
+        //when
+        registry.create("read", EngineStatsTest::newGame).run(game -> {
+            Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+            game.registerPlayer(TestConstants.PLAYER_2);
+            game.start();
+            game.makeMove(player1);
+        });
+
+        //then
+        Assert.assertEquals(name, EngineStats.registerPlatformMBean());
+        Assert.assertEquals(EngineStats.get().getTotalMoves(), server.getAttribute(name, "TotalMoves"));
+        Assert.assertEquals(EngineStats.get().getRunningGames(), server.getAttribute(name, "RunningGames"));
+        Assert.assertTrue((Double) server.getAttribute(name, "AveragePlayersPerGame") > 0);
+        Assert.assertTrue((Double) server.getAttribute(name, "MovesPerSecond") >= 0);
+        registry.retire("read");
+    }
+
+    @Test
+    public void gaugesShouldGoBackOnceGamesAreRetiredAndPublishersClosed() {
+        //given
+        EngineStats stats = EngineStats.get();
+        long waiting = stats.getWaitingGames();
+        long running = stats.getRunningGames();
+        long banks = stats.getBanks();
+        long bankBalance = stats.getTotalBankBalance();
+        double playersPerGame = stats.getAveragePlayersPerGame();
+        long publishers = stats.getPublishers();
+        long viewers = stats.getViewers();
+        GameRegistry<FixedRoundsGame> registry = new GameRegistry<>();
+        RingBufferGameEventPublisher publisher = new RingBufferGameEventPublisher();
+        publisher.addSubscriber(new TestViewer());
+        publisher.addSubscriber(new TestViewer());
+
+        //when
+        HostedGame<FixedRoundsGame> waitingGame = registry.create("waiting", EngineStatsTest::newGame);
+        HostedGame<FixedRoundsGame> runningGame = registry.create("running", EngineStatsTest::newGame);
+        runningGame.run(game -> {
+            Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+            game.registerPlayer(TestConstants.PLAYER_2);
+            game.start();
+            game.makeMove(player1);
+        });
+        Assert.assertEquals(waiting + 1, stats.getWaitingGames());
+        Assert.assertEquals(running + 1, stats.getRunningGames());
+        Assert.assertEquals(banks + 2, stats.getBanks());
+        // the ring buffer and the publisher of each game.
+        Assert.assertEquals(publishers + 3, stats.getPublishers());
+        Assert.assertEquals(viewers + 2, stats.getViewers());
+        registry.retire("waiting");
+        registry.retire("running");
+        registry.retire("running");
+        publisher.close();
+        publisher.close();
+
+        //then
+        Assert.assertEquals(waiting, stats.getWaitingGames());
+        Assert.assertEquals(running, stats.getRunningGames());
+        Assert.assertEquals(banks, stats.getBanks());
+        Assert.assertEquals(bankBalance, stats.getTotalBankBalance());
+        Assert.assertEquals(playersPerGame, stats.getAveragePlayersPerGame(), 0.000001);
+        Assert.assertEquals(publishers, stats.getPublishers());
+        Assert.assertEquals(viewers, stats.getViewers());
+        Assert.assertTrue(waitingGame.isRetired());
+    }
+}
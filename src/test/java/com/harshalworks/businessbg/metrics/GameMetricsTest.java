@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.metrics;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.CompiledBoard;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.dice.MockFixedOutputDice;
+import com.harshalworks.businessbg.events.GameEvent;
+import com.harshalworks.businessbg.events.StandardGameEventPublisher;
+import com.harshalworks.businessbg.exceptions.CannotPurchaseThisAsset;
+import com.harshalworks.businessbg.exceptions.PlayerCannotMakeTurnException;
+import com.harshalworks.businessbg.player.Player;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GameMetricsTest {
+
+    private static FixedRoundsGame newGame(GameMetrics metrics) {
+        Board board = new Board(new Cell[]{new BlankCell(), new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("", 500, 100)}), new PayToBankCell(50), new BankRewardCell(20)});
+        FixedRoundsGame game = new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK, new MockFixedOutputDice(new int[]{1, 1, 1, 1}), board, 2,
+                new InstrumentedGameEventPublisher(new StandardGameEventPublisher(), metrics));
+        game.setMetrics(metrics);
+        return game;
+    }
+
+    @Test
+    public void gameOperationsShouldBeTimedAndCounted() {
+        //given
+        GameMetrics metrics = new GameMetrics();
+        FixedRoundsGame game = newGame(metrics);
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        Player player2 = game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+
+        //when
+        game.makeMove(player1);
+        game.purchaseCurrentCellAsset(player1);
+        try {
+            game.makeMove(player1);
+            Assert.fail();
+        } catch (PlayerCannotMakeTurnException e) {
+            // expected
+        }
+        game.makeMove(player2);
+        try {
+            game.purchaseCurrentCellAsset(player2);
+            Assert.fail();
+        } catch (CannotPurchaseThisAsset e) {
+            // expected
+        }
+
+        //then
+        Assert.assertEquals(2, metrics.getLatency(GameMetrics.Operation.REGISTER_PLAYER).getCount());
+        Assert.assertEquals(1, metrics.getLatency(GameMetrics.Operation.START).getCount());
+        Assert.assertEquals(3, metrics.getLatency(GameMetrics.Operation.MAKE_MOVE).getCount());
+        Assert.assertEquals(2, metrics.getLatency(GameMetrics.Operation.PURCHASE).getCount());
+        Assert.assertEquals(2, metrics.getRuleLatency(CompiledBoard.RENTABLE).getCount());
+        Assert.assertEquals(0, metrics.getRuleLatency(CompiledBoard.PAY_TO_BANK).getCount());
+        Assert.assertEquals(1, metrics.getExceptionCount(PlayerCannotMakeTurnException.class));
+        Assert.assertEquals(1, metrics.getExceptionCount(CannotPurchaseThisAsset.class));
+        Assert.assertEquals(2, metrics.getEventCount(GameEvent.PLAYER_JOINED));
+        Assert.assertEquals(2, metrics.getEventCount(GameEvent.DICE_ROLLED));
+        Assert.assertEquals(1, metrics.getEventCount(GameEvent.PURCHASED));
+        Assert.assertEquals(metrics.getLatency(GameMetrics.Operation.PUBLISH_EVENT).getCount(),
+                metrics.getEventCounts().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void disabledMetricsShouldRecordNothing() {
+        //given
+        GameMetrics metrics = new GameMetrics();
+        metrics.setEnabled(false);
+        FixedRoundsGame game = newGame(metrics);
+        Player player1 = game.registerPlayer(TestConstants.PLAYER_1);
+        game.registerPlayer(TestConstants.PLAYER_2);
+        game.start();
+
+        //when
+        game.makeMove(player1);
+
+        //then
+        for (GameMetrics.Operation operation : GameMetrics.Operation.values()) {
+            Assert.assertEquals(0, metrics.getLatency(operation).getCount());
+        }
+        Assert.assertTrue(metrics.getEventCounts().isEmpty());
+    }
+}
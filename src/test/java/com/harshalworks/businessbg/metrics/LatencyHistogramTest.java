@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void percentilesShouldBeWithinTheBucketPrecision() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        //when
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        //then
+        Assert.assertEquals(100_000, histogram.getCount());
+        Assert.assertEquals(100_000_000, histogram.getMax());
+        Assert.assertEquals(50_000_500, histogram.getMean(), 0.001);
+        assertWithinPrecision(50_000_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(99_000_000, histogram.getValueAtPercentile(99));
+        assertWithinPrecision(99_900_000, histogram.getValueAtPercentile(99.9));
+        Assert.assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assert.assertTrue(expected + " ~ " + actual, actual >= expected && actual <= expected * 1.07);
+    }
+
+    @Test
+    public void everyValueShouldFallInABucketCoveringIt() {
+        for (long value : new long[]{0, 1, 31, 32, 33, 63, 64, 1_000, 123_456_789, LatencyHistogram.HIGHEST_TRACKABLE_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            Assert.assertTrue(value + "", LatencyHistogram.highestValueOf(bucket) >= value);
+            Assert.assertTrue(value + "", bucket == 0 || LatencyHistogram.highestValueOf(bucket - 1) < value);
+        }
+        Assert.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void resetHistogramShouldBeEmpty() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+        histogram.record(-3);
+
+        //when
+        histogram.reset();
+
+        //then
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMax());
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+}
@@ -87,6 +87,45 @@ public class BoardGamePlayerTest {
         Assert.assertEquals(propertyOwnedUpgraded, player.getTotalAssetValue());
     }
 
+    @Test
+    public void totalAssetValueShouldFollowUpgradesOfPropertiesOnBoardCells(){
+        //given
+        BoardGamePlayer player = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_1);
+        player.addProperty(new PropertyAck("CELL_3", 500, 3));
+        player.addProperty(new PropertyAck("CELL_7", 700, 7));
+        player.addProperty(new PropertyAck("OFFICE", 100));
+
+        //when
+        player.addProperty(new PropertyAck("CELL_3", 1500, 3));
+
+        //then
+        Assert.assertEquals(3, player.getPropertiesOwned().size());
+        Assert.assertEquals(1500 + 700 + 100, player.getTotalAssetValue());
+        Assert.assertEquals(1500, player.getPropertyValue(3));
+        Assert.assertEquals(0, player.getPropertyValue(5));
+        Assert.assertEquals(TestConstants.START_PLAYER_AMOUNT + 2300, player.getNetWorth());
+    }
+
+    @Test
+    public void playerShouldKeepTrackOfManyPropertiesItOwns(){
+        //given
+        BoardGamePlayer player = new BoardGamePlayer(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.PLAYER_1);
+        int properties = 1000, expectedTotal = 0;
+
+        //when
+        for (int cellId = 0; cellId < properties; cellId++) {
+            player.addProperty(new PropertyAck("CELL_" + cellId, cellId, cellId * 4));
+            expectedTotal += cellId;
+        }
+
+        //then
+        Assert.assertEquals(properties, player.getPropertiesOwned().size());
+        Assert.assertEquals(expectedTotal, player.getTotalAssetValue());
+        Assert.assertEquals(999, player.getPropertyValue(999 * 4));
+    }
+
     @Test
     public void purchasingACellWouldAddPurchaseAckSlipWithPlayer() {
         //given
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.registry;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.dice.StandardSixSidedDice;
+import com.harshalworks.businessbg.exceptions.GameIsNotStartedException;
+import com.harshalworks.businessbg.player.Player;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+public class GameActorTest {
+
+    private ExecutorService executor;
+    private GameRegistry<FixedRoundsGame> registry;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(2);
+        registry = new GameRegistry<>();
+    }
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static FixedRoundsGame createGame() {
+        Board board = new Board(new Cell[]{
+                new BlankCell(), new PayToBankCell(10), new BankRewardCell(25), new BlankCell()});
+        return new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT, TestConstants.INITIAL_AMOUNT_OF_BANK,
+                new StandardSixSidedDice(5), board, 10_000);
+    }
+
+    @Test
+    public void commandsShouldBeProcessedInTheOrderTheyWereSubmitted() throws Exception {
+        //given
+        GameActor<FixedRoundsGame> actor = new GameActor<>(registry.create("table-1", GameActorTest::createGame),
+                executor);
+        Player player1 = actor.registerPlayer(TestConstants.PLAYER_1).get();
+        Player player2 = actor.registerPlayer(TestConstants.PLAYER_2).get();
+        actor.start();
+
+        //when
+        CompletableFuture<Void> lastMove = null;
+        for (int i = 0; i < 50; i++) {
+            actor.makeMove(player1);
+            lastMove = actor.makeMove(player2);
+        }
+        lastMove.get(10, TimeUnit.SECONDS);
+
+        //then
+        Assert.assertEquals(TestConstants.PLAYER_1, actor.submit(FixedRoundsGame::getPlayerWithCurrentTurn).get());
+    }
+
+    @Test
+    public void failingCommandsShouldCompleteTheirFutureExceptionally() throws Exception {
+        //given
+        GameActor<FixedRoundsGame> actor = new GameActor<>(registry.create("table-1", GameActorTest::createGame),
+                executor);
+        Player player1 = actor.registerPlayer(TestConstants.PLAYER_1).get();
+
+        //when
+        CompletableFuture<Void> move = actor.makeMove(player1);
+
+        //then
+        try {
+            move.get(10, TimeUnit.SECONDS);
+            Assert.fail("the game hasn't started");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof GameIsNotStartedException);
+        }
+        Assert.assertEquals(TestConstants.PLAYER_1, actor.registerPlayer(TestConstants.PLAYER_1).get().getUniqueName());
+    }
+
+    @Test
+    public void commandsThrowingAnErrorShouldCompleteTheirFutureAndLeaveTheActorRunning() throws Exception {
+        //given
+        GameActor<FixedRoundsGame> actor = new GameActor<>(registry.create("table-1", GameActorTest::createGame),
+                executor);
+
+        //when
+        CompletableFuture<Object> failing = actor.submit(game -> {
+            throw new AssertionError("broken command");
+        });
+        CompletableFuture<Player> registration = actor.registerPlayer(TestConstants.PLAYER_1);
+
+        //then
+        try {
+            failing.get(10, TimeUnit.SECONDS);
+            Assert.fail("the command threw an error");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof AssertionError);
+        }
+        Assert.assertEquals(TestConstants.PLAYER_1, registration.get(10, TimeUnit.SECONDS).getUniqueName());
+    }
+
+    @Test
+    public void manyGamesShouldShareAFewThreads() throws Exception {
+        //given
+        int games = 500;
+        List<GameActor<FixedRoundsGame>> actors = new ArrayList<>();
+        for (int i = 0; i < games; i++) {
+            GameActor<FixedRoundsGame> actor = new GameActor<>(
+                    registry.create("table-" + i, GameActorTest::createGame), executor);
+            actor.registerPlayer(TestConstants.PLAYER_1);
+            actor.registerPlayer(TestConstants.PLAYER_2);
+            actor.start();
+            actors.add(actor);
+        }
+
+        //when
+        List<CompletableFuture<Void>> moves = new ArrayList<>();
+        for (int move = 0; move < 20; move++) {
+            for (GameActor<FixedRoundsGame> actor : actors) {
+                moves.add(actor.submit(game -> {
+                    game.makeMove(game.getPlayer(game.getPlayerWithCurrentTurn()));
+                    return null;
+                }));
+            }
+        }
+        CompletableFuture.allOf(moves.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+        //then
+        int totalMoney = TestConstants.INITIAL_AMOUNT_OF_BANK + 2 * TestConstants.START_PLAYER_AMOUNT;
+        for (GameActor<FixedRoundsGame> actor : actors) {
+            Assert.assertEquals(Integer.valueOf(totalMoney), actor.submit(game -> game.getBankMoneyValue()
+                    + game.getPlayer(TestConstants.PLAYER_1).getMoneyValue()
+                    + game.getPlayer(TestConstants.PLAYER_2).getMoneyValue()).get());
+        }
+    }
+
+    @Test
+    public void commandsShouldFailWhenTheExecutorRejectsThem() {
+        //given
+        executor.shutdown();
+        GameActor<FixedRoundsGame> actor = new GameActor<>(registry.create("table-1", GameActorTest::createGame),
+                executor);
+
+        //when
+        CompletableFuture<Player> registration = actor.registerPlayer(TestConstants.PLAYER_1);
+
+        //then
+        Assert.assertTrue(registration.isCompletedExceptionally());
+    }
+}
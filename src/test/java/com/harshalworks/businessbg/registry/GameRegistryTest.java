@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.registry;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.dice.StandardSixSidedDice;
+import com.harshalworks.businessbg.exceptions.CannotHostGameException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameRegistryTest {
+
+    private static FixedRoundsGame createGame() {
+        Board board = new Board(new Cell[]{
+                new BlankCell(), new PayToBankCell(10), new BankRewardCell(25), new BlankCell()});
+        return new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT, TestConstants.INITIAL_AMOUNT_OF_BANK,
+                new StandardSixSidedDice(5), board, 10_000);
+    }
+
+    @Test
+    public void gamesShouldBeFoundByTheirIdUntilRetired() {
+        //given
+        GameRegistry<FixedRoundsGame> registry = new GameRegistry<>();
+        HostedGame<FixedRoundsGame> created = registry.create("table-1", GameRegistryTest::createGame);
+
+        //when
+        HostedGame<FixedRoundsGame> found = registry.lookup("table-1");
+        HostedGame<FixedRoundsGame> retired = registry.retire("table-1");
+
+        //then
+        Assert.assertSame(created, found);
+        Assert.assertSame(created, retired);
+        Assert.assertTrue(retired.isRetired());
+        Assert.assertNull(registry.lookup("table-1"));
+        Assert.assertEquals(0, registry.size());
+    }
+
+    @Test(expected = CannotHostGameException.class)
+    public void twoGamesCannotBeHostedUnderTheSameId() {
+        GameRegistry<FixedRoundsGame> registry = new GameRegistry<>();
+        registry.create("table-1", GameRegistryTest::createGame);
+
+        registry.create("table-1", GameRegistryTest::createGame);
+    }
+
+    @Test
+    public void factoryShouldNotBeCalledForAnIdAlreadyHosted() {
+        //given
+        GameRegistry<FixedRoundsGame> registry = new GameRegistry<>();
+        HostedGame<FixedRoundsGame> hosted = registry.create("table-1", GameRegistryTest::createGame);
+        int[] factoryCalls = new int[1];
+
+        //when
+        try {
+            registry.create("table-1", () -> {
+                factoryCalls[0]++;
+                return createGame();
+            });
+            Assert.fail();
+        } catch (CannotHostGameException e) {
+            // expected
+        }
+
+        //then
+        Assert.assertEquals(0, factoryCalls[0]);
+        Assert.assertSame(hosted, registry.lookup("table-1"));
+    }
+
+    @Test(expected = CannotHostGameException.class)
+    public void retiredGamesShouldRefuseCommands() {
+        GameRegistry<FixedRoundsGame> registry = new GameRegistry<>();
+        HostedGame<FixedRoundsGame> hostedGame = registry.create("table-1", GameRegistryTest::createGame);
+        registry.retire("table-1");
+
+        hostedGame.run(game -> game.registerPlayer(TestConstants.PLAYER_1));
+    }
+
+    @Test
+    public void movesFromManyThreadsOnOneGameShouldBeAppliedOneAtATime() throws InterruptedException {
+        //given
+        GameRegistry<FixedRoundsGame> registry = new GameRegistry<>();
+        HostedGame<FixedRoundsGame> hostedGame = registry.create("table-1", GameRegistryTest::createGame);
+        hostedGame.run(game -> {
+            game.registerPlayer(TestConstants.PLAYER_1);
+            game.registerPlayer(TestConstants.PLAYER_2);
+            game.start();
+        });
+        int totalMoney = TestConstants.INITIAL_AMOUNT_OF_BANK + 2 * TestConstants.START_PLAYER_AMOUNT;
+
+        //when
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int move = 0; move < 2000; move++) {
+                    registry.lookup("table-1").run(game ->
+                            game.makeMove(game.getPlayer(game.getPlayerWithCurrentTurn())));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //then
+        int moneyInGame = hostedGame.execute(game -> game.getBankMoneyValue()
+                + game.getPlayer(TestConstants.PLAYER_1).getMoneyValue()
+                + game.getPlayer(TestConstants.PLAYER_2).getMoneyValue());
+        Assert.assertEquals(totalMoney, moneyInGame);
+    }
+
+    @Test
+    public void memoryShouldBeAccountedPerHostedGame() {
+        //given
+        GameRegistry<FixedRoundsGame> registry = new GameRegistry<>(4);
+        HostedGame<FixedRoundsGame> small = registry.create("small", GameRegistryTest::createGame);
+        HostedGame<FixedRoundsGame> large = registry.create("large", GameRegistryTest::createGame);
+
+        //when
+        small.run(game -> game.registerPlayer(TestConstants.PLAYER_1));
+        large.run(game -> {
+            for (int i = 0; i < 100; i++) {
+                game.registerPlayer("Player-" + i);
+            }
+        });
+
+        //then
+        Assert.assertTrue(small.estimateRetainedBytes() > 0);
+        Assert.assertTrue(large.estimateRetainedBytes() > small.estimateRetainedBytes());
+        Assert.assertEquals(small.estimateRetainedBytes() + large.estimateRetainedBytes(),
+                registry.estimateRetainedBytes());
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.replay;
+
+import com.harshalworks.businessbg.FixedRoundsGame;
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.Board;
+import com.harshalworks.businessbg.board.CompiledBoard;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.compact.CompactGameState;
+import com.harshalworks.businessbg.dice.StandardSixSidedDice;
+import com.harshalworks.businessbg.events.GameEvent;
+import com.harshalworks.businessbg.events.StandardGameEventPublisher;
+import com.harshalworks.businessbg.exceptions.CannotPurchaseThisAsset;
+import com.harshalworks.businessbg.exceptions.ReplayDivergedException;
+import com.harshalworks.businessbg.journal.EventJournalWriter;
+import com.harshalworks.businessbg.journal.JournalingGameEventPublisher;
+import com.harshalworks.businessbg.player.Player;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class GameReplayerTest {
+
+    private static final int ROUNDS = 5;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Board createBoard() {
+        RentableMemberbership[] memberberships = {
+                new RentableMemberbership("Silver", 300, 50),
+                new RentableMemberbership("Gold", 500, 120)};
+        return new Board(new Cell[]{
+                new BlankCell(), new RentableCell(memberberships), new PayToBankCell(100),
+                new RentableCell(memberberships), new BankRewardCell(150), new BlankCell(),
+                new RentableCell(new RentableMemberbership[]{new RentableMemberbership("Only", 200, 20)})
+        });
+    }
+
+    private GameReplayer createReplayer() {
+        return new GameReplayer(CompiledBoard.compile(createBoard()), TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK, ROUNDS);
+    }
+
+    private FixedRoundsGame playJournalledGame(Path journal, long seed, Player[] seats) {
+        JournalingGameEventPublisher publisher = new JournalingGameEventPublisher(
+                new StandardGameEventPublisher(), new EventJournalWriter(journal));
+        FixedRoundsGame game = new FixedRoundsGame(TestConstants.START_PLAYER_AMOUNT,
+                TestConstants.INITIAL_AMOUNT_OF_BANK, new StandardSixSidedDice(seed), createBoard(), ROUNDS,
+                publisher);
+        for (int seat = 0; seat < seats.length; seat++) {
+            seats[seat] = game.registerPlayer("Player-" + seat);
+        }
+        game.start();
+        int seat = 0;
+        while (!game.isFinished()) {
+            game.makeMove(seats[seat]);
+            try {
+                if (!game.isFinished())
+                    game.purchaseCurrentCellAsset(seats[seat]);
+            } catch (CannotPurchaseThisAsset e) {
+                // not for sale, keep playing.
+            }
+            seat = (seat + 1) % seats.length;
+        }
+        publisher.close();
+        return game;
+    }
+
+    @Test
+    public void replayShouldEndInTheSameStateAsTheJournalledGame() throws IOException {
+        //given
+        Path journal = folder.newFolder().toPath();
+        Player[] seats = new Player[3];
+        FixedRoundsGame game = playJournalledGame(journal, 7, seats);
+
+        //when
+        ReplayedGame replayed = createReplayer().replay(journal);
+
+        //then
+        Assert.assertTrue(replayed.isConsistent());
+        Assert.assertEquals(Arrays.asList("Player-0", "Player-1", "Player-2"), replayed.getPlayerNames());
+        CompactGameState state = replayed.getState();
+        Assert.assertTrue(state.isFinished());
+        Assert.assertEquals(game.getBankMoneyValue(), state.getBankMoneyValue());
+        for (int seat = 0; seat < seats.length; seat++) {
+            Assert.assertEquals(seats[seat].getCurrentPosition(), state.getPosition(seat));
+            Assert.assertEquals(seats[seat].getMoneyValue(), state.getMoneyValue(seat));
+            Assert.assertEquals(seats[seat].getTotalAssetValue(), state.getTotalAssetValue(seat));
+        }
+    }
+
+    @Test
+    public void replayingManyJournalsShouldReportTheOnesThatDiverge() throws IOException {
+        //given
+        List<Path> journals = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Path journal = folder.newFolder().toPath();
+            playJournalledGame(journal, i, new Player[2]);
+            journals.add(journal);
+        }
+        Path tampered = folder.newFolder().toPath();
+        try (EventJournalWriter writer = new EventJournalWriter(tampered)) {
+            writer.append(new GameEvent(GameEvent.PLAYER_JOINED, "a", "a", 0));
+            writer.append(new GameEvent(GameEvent.PLAYER_JOINED, "b", "b", 0));
+            writer.append(new GameEvent(GameEvent.GAME_STARTED, "a, b"));
+            writer.append(new GameEvent(GameEvent.DICE_ROLLED, "1", null, 1));
+            writer.append(new GameEvent(GameEvent.TURN_CHANGED, "a", "a", 0));
+        }
+        journals.add(2, tampered);
+
+        //when
+        List<ReplayedGame> replayed = createReplayer().replayAll(journals);
+
+        //then
+        Assert.assertEquals(6, replayed.size());
+        for (int i = 0; i < replayed.size(); i++) {
+            Assert.assertEquals(journals.get(i), replayed.get(i).getJournal());
+            Assert.assertEquals(i != 2, replayed.get(i).isConsistent());
+        }
+        Assert.assertTrue(replayed.get(2).getFailure() instanceof ReplayDivergedException);
+        Assert.assertEquals(4, replayed.get(2).getRecordsReplayed());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Harshal Sharma
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package com.harshalworks.businessbg.simulation;
+
+import com.harshalworks.businessbg.TestConstants;
+import com.harshalworks.businessbg.board.cell.*;
+import com.harshalworks.businessbg.board.cell.factory.StandardBoardCellDuplicatingFactory;
+import com.harshalworks.businessbg.board.cell.factory.StandardCellTypes;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class FixedRoundsGameSimulatorTest {
+
+    private static final StandardCellTypes[] LAYOUT = {
+            StandardCellTypes.BLANK, StandardCellTypes.RENT_ABLE, StandardCellTypes.PAY_TO_BANK,
+            StandardCellTypes.RENT_ABLE, StandardCellTypes.BANK_REWARD, StandardCellTypes.RENT_ABLE,
+            StandardCellTypes.BLANK, StandardCellTypes.RENT_ABLE
+    };
+
+    private FixedRoundsGameSimulator<StandardCellTypes> createSimulator(int players, ForkJoinPool pool) {
+        Map<StandardCellTypes, Cell> cells = new HashMap<>();
+        cells.put(StandardCellTypes.BLANK, new BlankCell());
+        cells.put(StandardCellTypes.PAY_TO_BANK, new PayToBankCell(150));
+        cells.put(StandardCellTypes.BANK_REWARD, new BankRewardCell(200));
+        cells.put(StandardCellTypes.RENT_ABLE, new RentableCell(new RentableMemberbership[]{
+                new RentableMemberbership("Silver", 300, 40),
+                new RentableMemberbership("Gold", 600, 90)}));
+        return new FixedRoundsGameSimulator<>(new StandardBoardCellDuplicatingFactory(cells), LAYOUT,
+                players, TestConstants.START_PLAYER_AMOUNT, TestConstants.INITIAL_AMOUNT_OF_BANK,
+                5, PurchaseStrategy.WHEN_AFFORDABLE, pool);
+    }
+
+    @Test
+    public void simulatorPlaysOneGameForEverySeed() {
+        //given
+        FixedRoundsGameSimulator<StandardCellTypes> simulator = createSimulator(3, ForkJoinPool.commonPool());
+
+        //when
+        SimulationResult result = simulator.simulate(0, 1000);
+
+        //then
+        Assert.assertEquals(1000, result.getGamesPlayed());
+        long decided = result.getDraws();
+        for (int seat = 0; seat < 3; seat++) {
+            decided += result.getWins(seat);
+        }
+        Assert.assertEquals(1000, decided);
+    }
+
+    @Test
+    public void simulatedGamesOnlyMoveMoneyBetweenPlayersAndBank() {
+        //given
+        int players = 4;
+        FixedRoundsGameSimulator<StandardCellTypes> simulator = createSimulator(players, ForkJoinPool.commonPool());
+
+        //when
+        SimulationResult result = simulator.simulate(0, 500);
+
+        //then
+        double totalMoney = result.getAverageBankBalance();
+        for (int seat = 0; seat < players; seat++) {
+            totalMoney += result.getAverageFinalMoney(seat);
+        }
+        Assert.assertEquals(players * TestConstants.START_PLAYER_AMOUNT + TestConstants.INITIAL_AMOUNT_OF_BANK,
+                totalMoney, 0.0001);
+    }
+
+    @Test
+    public void resultsDoNotDependOnTheNumberOfThreads() {
+        //given
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        ForkJoinPool manyThreads = new ForkJoinPool(4);
+
+        //when
+        SimulationResult sequential = createSimulator(2, singleThread).simulate(100, 900);
+        SimulationResult parallel = createSimulator(2, manyThreads).simulate(100, 900);
+
+        //then
+        Assert.assertArrayEquals(sequential.getWinDistribution(), parallel.getWinDistribution(), 0);
+        Assert.assertEquals(sequential.getAverageBankBalance(), parallel.getAverageBankBalance(), 0);
+        singleThread.shutdown();
+        manyThreads.shutdown();
+    }
+}